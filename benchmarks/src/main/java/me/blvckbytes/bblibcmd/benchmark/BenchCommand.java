@@ -0,0 +1,126 @@
+package me.blvckbytes.bblibcmd.benchmark;
+
+import me.blvckbytes.bblibcmd.ACommand;
+import me.blvckbytes.bblibcmd.CommandArgument;
+import me.blvckbytes.bblibcmd.SuggestionCollector;
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import me.blvckbytes.bblibconfig.IConfig;
+import me.blvckbytes.bblibutil.component.IComponent;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A command which exercises the typical helpers in it's handlers and
+  exposes them publicly, so that they can be benchmarked in isolation.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class BenchCommand extends ACommand {
+
+  public BenchCommand(JavaPlugin plugin, IConfig cfg) {
+    super(
+      plugin, cfg, "bench,b", "bench.root",
+      new CommandArgument("<player>", "bench.player"),
+      new CommandArgument("<material>", "bench.material"),
+      new CommandArgument("<amount>", null),
+      new CommandArgument("[message]", null)
+    );
+  }
+
+  @Override
+  protected void invoke(CommandSender cs, String label, String[] args) throws CommandException {
+    OfflinePlayer target = offlinePlayer(args, 0);
+    Material material = parseEnum(Material.class, args, 1, null);
+    int amount = parseInt(args, 2);
+    String message = argvar(args, 3, "");
+
+    // Consume the results, so they can't be optimized away
+    if (target == null || material == null || amount < 0 || message == null)
+      throw internalError();
+  }
+
+  @Override
+  protected Stream<String> onTabCompletion(CommandSender cs, String[] args, int currArg) {
+    if (currArg == 0)
+      return suggestOfflinePlayers(args, currArg);
+
+    if (currArg == 1)
+      return suggestEnum(args, currArg, Material.class);
+
+    return Stream.empty();
+  }
+
+  @Override
+  protected void onTabCompletion(CommandSender cs, String[] args, int currArg, SuggestionCollector collector) {
+    if (currArg == 0)
+      suggestOfflinePlayers(collector, List.of());
+
+    else if (currArg == 1)
+      suggestEnum(collector, Material.class);
+  }
+
+  //=========================================================================//
+  //                                 Exposed                                 //
+  //=========================================================================//
+
+  public Stream<String> exposeSuggestEnum(String[] args, int currArg) {
+    return suggestEnum(args, currArg, Material.class);
+  }
+
+  public Stream<String> exposeSuggestOnlinePlayers(Player p, String[] args, int currArg) {
+    return suggestOnlinePlayers(p, args, currArg, true, List.of());
+  }
+
+  public Stream<String> exposeSuggestOfflinePlayers(String[] args, int currArg) {
+    return suggestOfflinePlayers(args, currArg);
+  }
+
+  public int exposeParseInt(String[] args, int index) {
+    return parseInt(args, index);
+  }
+
+  public Material exposeParseEnum(String[] args, int index) {
+    return parseEnum(Material.class, args, index, null);
+  }
+
+  public UUID exposeParseUUID(String[] args, int index) {
+    return parseUUID(args, index);
+  }
+
+  public Player exposeOnlinePlayer(String[] args, int index) {
+    return onlinePlayer(args, index);
+  }
+
+  public Player exposeOnlinePlayer(CommandSender cs, String[] args, int index) {
+    return onlinePlayer(cs, args, index);
+  }
+
+  public OfflinePlayer exposeOfflinePlayer(String[] args, int index) {
+    return offlinePlayer(args, index);
+  }
+
+  public IComponent exposeBuildUsage(Integer focusedArgument) {
+    return buildUsage(focusedArgument);
+  }
+}
@@ -0,0 +1,210 @@
+package me.blvckbytes.bblibcmd.benchmark;
+
+import me.blvckbytes.bblibcmd.PlayerNameStore;
+import me.blvckbytes.bblibutil.component.IComponent;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Benchmarks the hot paths of commands, which are execution, tab completion,
+  the suggest and parse helpers as well as usage building, against a stubbed
+  server that holds a configurable number of players.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandBenchmarks {
+
+  @Param({ "1000", "10000", "100000", "500000" })
+  private int offlinePlayers;
+
+  @Param({ "100" })
+  private int onlinePlayers;
+
+  // Maximum time to wait for the player name store to open
+  private static final long STORE_OPEN_TIMEOUT_MS = 60_000;
+
+  private StubServer server;
+  private StubPlugin plugin;
+  private Path tempFolder;
+
+  private BenchCommand command;
+  private ConsoleCommandSender console;
+  private Player player;
+
+  private String[] validArgs, offlineCompletionArgs, enumCompletionArgs;
+  private String[] intArgs, enumArgs, uuidArgs, onlineArgs, offlineArgs;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, InterruptedException {
+    this.server = StubServer.install();
+    server.populate(offlinePlayers, onlinePlayers);
+
+    // A fresh folder per trial, so the name store is seeded from this trial's population
+    this.tempFolder = Files.createTempDirectory("bblibcmd-bench");
+    this.plugin = new StubPlugin(new File(tempFolder.toFile(), "BBLibCmdBenchmark"));
+
+    this.command = new BenchCommand(plugin, StubConfig.create());
+
+    // The store opens and seeds itself in the background, wait for it so lookups don't measure scans
+    PlayerNameStore nameStore = PlayerNameStore.getInstance(plugin);
+    long deadline = System.currentTimeMillis() + STORE_OPEN_TIMEOUT_MS;
+    while (!nameStore.isAvailable()) {
+      if (System.currentTimeMillis() > deadline)
+        throw new IllegalStateException("The player name store did not open in time");
+      Thread.sleep(10);
+    }
+    this.console = server.getConsole();
+    this.player = server.getOnlinePlayer(0);
+
+    // Look up a player in the middle of the population, which is a typical case for scans
+    String offlineName = server.getOfflinePlayer(offlinePlayers / 2).getName();
+    String onlineName = server.getOnlinePlayer(onlinePlayers / 2).getName();
+
+    this.validArgs = new String[] { offlineName, "stone", "64", "hello", "world" };
+    this.offlineCompletionArgs = new String[] { offlineName.substring(0, 2) };
+    this.enumCompletionArgs = new String[] { offlineName, "sto" };
+    this.intArgs = new String[] { "1337" };
+    this.enumArgs = new String[] { "diamond_sword" };
+    this.uuidArgs = new String[] { UUID.randomUUID().toString() };
+    this.onlineArgs = new String[] { onlineName };
+    this.offlineArgs = new String[] { offlineName };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    // Releases all shared resources, so the next trial binds them to it's own plugin
+    server.disable(plugin);
+
+    try (Stream<Path> paths = Files.walk(tempFolder)) {
+      paths
+        .sorted(Comparator.reverseOrder())
+        .map(Path::toFile)
+        .forEach(File::delete);
+    }
+  }
+
+  //=========================================================================//
+  //                                 Command                                 //
+  //=========================================================================//
+
+  @Benchmark
+  public boolean executeValid() {
+    return command.execute(console, "bench", validArgs);
+  }
+
+  @Benchmark
+  public boolean executeUsageError() {
+    return command.execute(console, "bench", new String[0]);
+  }
+
+  @Benchmark
+  public List<String> tabCompleteOfflinePlayers() {
+    return command.tabComplete(player, "bench", offlineCompletionArgs);
+  }
+
+  @Benchmark
+  public List<String> tabCompleteEnum() {
+    return command.tabComplete(player, "bench", enumCompletionArgs);
+  }
+
+  //=========================================================================//
+  //                                 Suggest                                 //
+  //=========================================================================//
+
+  @Benchmark
+  public List<String> suggestEnum() {
+    return command.exposeSuggestEnum(enumCompletionArgs, 1).limit(10).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<String> suggestOnlinePlayers() {
+    return command.exposeSuggestOnlinePlayers(player, offlineCompletionArgs, 0).limit(10).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<String> suggestOfflinePlayers() {
+    return command.exposeSuggestOfflinePlayers(offlineCompletionArgs, 0).limit(10).collect(Collectors.toList());
+  }
+
+  //=========================================================================//
+  //                                  Parse                                  //
+  //=========================================================================//
+
+  @Benchmark
+  public int parseInt() {
+    return command.exposeParseInt(intArgs, 0);
+  }
+
+  @Benchmark
+  public Material parseEnum() {
+    return command.exposeParseEnum(enumArgs, 0);
+  }
+
+  @Benchmark
+  public UUID parseUUID() {
+    return command.exposeParseUUID(uuidArgs, 0);
+  }
+
+  @Benchmark
+  public Player onlinePlayer() {
+    return command.exposeOnlinePlayer(onlineArgs, 0);
+  }
+
+  @Benchmark
+  public Player onlinePlayerResolved() {
+    return command.exposeOnlinePlayer(player, onlineArgs, 0);
+  }
+
+  @Benchmark
+  public OfflinePlayer offlinePlayer() {
+    return command.exposeOfflinePlayer(offlineArgs, 0);
+  }
+
+  //=========================================================================//
+  //                                  Usage                                  //
+  //=========================================================================//
+
+  @Benchmark
+  public IComponent buildUsageUnfocused() {
+    return command.exposeBuildUsage(null);
+  }
+
+  @Benchmark
+  public IComponent buildUsageFocused() {
+    return command.exposeBuildUsage(1);
+  }
+}
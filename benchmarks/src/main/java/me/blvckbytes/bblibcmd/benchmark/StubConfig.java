@@ -0,0 +1,108 @@
+package me.blvckbytes.bblibcmd.benchmark;
+
+import me.blvckbytes.bblibconfig.AConfigSection;
+import me.blvckbytes.bblibconfig.IConfig;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A config stand-in, which answers every section request with a section
+  instance that has all of it's fields set to the section's defaults.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class StubConfig {
+
+  /**
+   * Create a stubbed config, where the reader is stubbed
+   * based on the declared return type of the reader method
+   */
+  public static IConfig create() {
+    return (IConfig) Proxy.newProxyInstance(
+      IConfig.class.getClassLoader(), new Class[] { IConfig.class },
+      (proxy, method, args) -> {
+        if (method.getName().equals("reader"))
+          return Optional.of(createReader(method));
+
+        return defaultResult(method, proxy, args);
+      }
+    );
+  }
+
+  /**
+   * Create a stubbed reader, which parses every section into it's defaults
+   * @param readerMethod Reader method of the config, returning an optional reader
+   */
+  private static Object createReader(Method readerMethod) {
+    Type returnType = readerMethod.getGenericReturnType();
+    Class<?> readerType = (Class<?>) ((ParameterizedType) returnType).getActualTypeArguments()[0];
+
+    return Proxy.newProxyInstance(
+      readerType.getClassLoader(), new Class[] { readerType },
+      (proxy, method, args) -> {
+        if (method.getName().equals("parseValue"))
+          return Optional.of(createSection((Class<?>) args[1]));
+
+        return defaultResult(method, proxy, args);
+      }
+    );
+  }
+
+  /**
+   * Create a section with all of it's fields set to their defaults
+   * @param type Type of the section
+   */
+  private static Object createSection(Class<?> type) throws Exception {
+    AConfigSection section = (AConfigSection) type.getDeclaredConstructor().newInstance();
+    List<Field> fields = new ArrayList<>();
+
+    for (Class<?> c = type; c != null && c != AConfigSection.class; c = c.getSuperclass()) {
+      for (Field f : c.getDeclaredFields()) {
+        if (Modifier.isStatic(f.getModifiers()))
+          continue;
+
+        f.setAccessible(true);
+        fields.add(f);
+
+        if (f.get(section) != null)
+          continue;
+
+        Object value = Map.class.isAssignableFrom(f.getType()) ? new HashMap<>() : section.defaultFor(f.getType(), f.getName());
+        f.set(section, value);
+      }
+    }
+
+    section.afterParsing(fields);
+    return section;
+  }
+
+  /**
+   * Answer the object methods of proxies, everything else yields null
+   */
+  private static Object defaultResult(Method method, Object proxy, Object[] args) {
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "StubConfig";
+    }
+    return null;
+  }
+}
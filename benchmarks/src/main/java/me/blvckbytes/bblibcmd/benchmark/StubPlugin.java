@@ -0,0 +1,45 @@
+package me.blvckbytes.bblibcmd.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A plugin instance which can exist outside of a plugin classloader,
+  only used to satisfy constructors that require a plugin reference.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class StubPlugin extends JavaPlugin {
+
+  /**
+   * Create a new plugin instance
+   * @param dataFolder Data folder of the plugin, where shared files land in it's parent
+   */
+  @SuppressWarnings("deprecation")
+  public StubPlugin(File dataFolder) {
+    super(
+      new JavaPluginLoader(Bukkit.getServer()),
+      new PluginDescriptionFile("BBLibCmdBenchmark", "0.1", StubPlugin.class.getName()),
+      dataFolder,
+      new File(dataFolder.getParentFile(), "bench-plugin.jar")
+    );
+  }
+}
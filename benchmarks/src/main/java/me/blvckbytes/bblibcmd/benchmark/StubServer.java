@@ -0,0 +1,341 @@
+package me.blvckbytes.bblibcmd.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  An in-process stand-in for the Bukkit server, which only implements
+  what the command hot paths need, backed by a configurable number of
+  generated offline and online players.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class StubServer {
+
+  private static StubServer instance;
+
+  private OfflinePlayer[] offlinePlayers;
+  private List<Player> onlinePlayers;
+  private Map<String, Player> onlineByName;
+  private Map<UUID, OfflinePlayer> offlineById;
+
+  // Listeners registered through the plugin manager, by their plugin
+  private final Map<Plugin, List<Listener>> listeners;
+
+  private final ConsoleCommandSender console;
+
+  private StubServer() {
+    this.offlinePlayers = new OfflinePlayer[0];
+    this.onlinePlayers = new ArrayList<>();
+    this.onlineByName = new HashMap<>();
+    this.offlineById = new HashMap<>();
+    this.listeners = new HashMap<>();
+    this.console = stub(ConsoleCommandSender.class, Map.of(
+      "getName", args -> "CONSOLE",
+      "hasPermission", args -> true,
+      "isOp", args -> true
+    ));
+  }
+
+  /**
+   * Install the stub as Bukkit's server, which can only happen once per JVM
+   */
+  public static synchronized StubServer install() {
+    if (instance == null) {
+      instance = new StubServer();
+      Bukkit.setServer(instance.createServer());
+    }
+    return instance;
+  }
+
+  /**
+   * Replace the population of players with newly generated ones, where
+   * the online players are the first few of all offline players
+   * @param offline Number of players that played before
+   * @param online Number of players currently online
+   */
+  public void populate(int offline, int online) {
+    OfflinePlayer[] offlinePlayers = new OfflinePlayer[offline];
+    List<Player> onlinePlayers = new ArrayList<>(online);
+    Map<String, Player> onlineByName = new HashMap<>();
+    Map<UUID, OfflinePlayer> offlineById = new HashMap<>();
+
+    Random random = new Random(offline);
+    for (int i = 0; i < offline; i++) {
+      String name = generateName(random, i);
+      UUID uuid = new UUID(random.nextLong(), random.nextLong());
+
+      if (i < online) {
+        Player p = createPlayer(name, uuid);
+        onlinePlayers.add(p);
+        onlineByName.put(name.toLowerCase(Locale.ROOT), p);
+        offlinePlayers[i] = p;
+        offlineById.put(uuid, p);
+        continue;
+      }
+
+      offlinePlayers[i] = createOfflinePlayer(name, uuid, true);
+      offlineById.put(uuid, offlinePlayers[i]);
+    }
+
+    this.offlinePlayers = offlinePlayers;
+    this.onlinePlayers = onlinePlayers;
+    this.onlineByName = onlineByName;
+    this.offlineById = offlineById;
+  }
+
+  /**
+   * Disable a plugin by calling the disable event on all listeners,
+   * after which they're dropped, just like the server would
+   * @param plugin Plugin to disable
+   */
+  public void disable(Plugin plugin) {
+    callEvent(new PluginDisableEvent(plugin));
+
+    synchronized (listeners) {
+      listeners.remove(plugin);
+    }
+  }
+
+  /**
+   * Get the console sender
+   */
+  public ConsoleCommandSender getConsole() {
+    return console;
+  }
+
+  /**
+   * Get an online player by it's position
+   */
+  public Player getOnlinePlayer(int index) {
+    return onlinePlayers.get(index);
+  }
+
+  /**
+   * Get an offline player by it's position
+   */
+  public OfflinePlayer getOfflinePlayer(int index) {
+    return offlinePlayers[index];
+  }
+
+  /**
+   * Create a stubbed player, which holds all permissions and sees everyone
+   * @param name Name of the player
+   * @param uuid UUID of the player
+   */
+  private Player createPlayer(String name, UUID uuid) {
+    return stub(Player.class, Map.of(
+      "getName", args -> name,
+      "getDisplayName", args -> name,
+      "getUniqueId", args -> uuid,
+      "hasPlayedBefore", args -> true,
+      "isOnline", args -> true,
+      "hasPermission", args -> true,
+      "canSee", args -> true
+    ));
+  }
+
+  /**
+   * Create a stubbed player which is offline
+   * @param name Name of the player, null if unknown
+   * @param uuid UUID of the player
+   * @param playedBefore Whether the player has played before
+   */
+  private OfflinePlayer createOfflinePlayer(String name, UUID uuid, boolean playedBefore) {
+    return stub(OfflinePlayer.class, Map.of(
+      "getName", args -> name,
+      "getUniqueId", args -> uuid,
+      "hasPlayedBefore", args -> playedBefore
+    ));
+  }
+
+  /**
+   * Look up an offline player by it's UUID, which never yields null, like the server
+   * @param uuid UUID of the player
+   */
+  private OfflinePlayer lookupOfflinePlayer(UUID uuid) {
+    OfflinePlayer player = offlineById.get(uuid);
+    return player == null ? createOfflinePlayer(null, uuid, false) : player;
+  }
+
+  /**
+   * Call an event on all registered listeners, in the order of their handlers' priorities
+   * @param event Event to call
+   */
+  private void callEvent(Event event) {
+    List<Map.Entry<Method, Listener>> handlers = new ArrayList<>();
+
+    synchronized (listeners) {
+      for (List<Listener> pluginListeners : listeners.values()) {
+        for (Listener listener : pluginListeners) {
+          for (Method method : listener.getClass().getDeclaredMethods()) {
+            if (
+              method.isAnnotationPresent(EventHandler.class) &&
+              method.getParameterCount() == 1 &&
+              method.getParameterTypes()[0].isInstance(event)
+            )
+              handlers.add(Map.entry(method, listener));
+          }
+        }
+      }
+    }
+
+    handlers.sort(Comparator.comparing(handler -> handler.getKey().getAnnotation(EventHandler.class).priority()));
+
+    for (Map.Entry<Method, Listener> handler : handlers) {
+      try {
+        handler.getKey().setAccessible(true);
+        handler.getKey().invoke(handler.getValue(), event);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new IllegalStateException("Could not call " + event.getEventName() + " on " + handler.getValue(), e);
+      }
+    }
+  }
+
+  /**
+   * Create the stubbed server instance
+   */
+  private Server createServer() {
+    Logger logger = Logger.getLogger("StubServer");
+
+    PluginManager pluginManager = stub(PluginManager.class, Map.of(
+      "registerEvents", args -> {
+        synchronized (listeners) {
+          listeners.computeIfAbsent((Plugin) args[1], k -> new ArrayList<>()).add((Listener) args[0]);
+        }
+        return null;
+      },
+      "callEvent", args -> {
+        callEvent((Event) args[0]);
+        return null;
+      }
+    ));
+
+    // Asynchronous tasks run inline, which keeps benchmarks deterministic
+    BukkitScheduler scheduler = stub(BukkitScheduler.class, Map.of(
+      "runTaskAsynchronously", args -> {
+        ((Runnable) args[1]).run();
+        return null;
+      }
+    ));
+
+    return stub(Server.class, Map.ofEntries(
+      Map.entry("getName", args -> "StubServer"),
+      Map.entry("getVersion", args -> "stub"),
+      Map.entry("getBukkitVersion", args -> "1.13.1-R0.1-SNAPSHOT"),
+      Map.entry("getLogger", args -> logger),
+      Map.entry("getPluginManager", args -> pluginManager),
+      Map.entry("getScheduler", args -> scheduler),
+      Map.entry("getConsoleSender", args -> console),
+      Map.entry("getOfflinePlayers", args -> offlinePlayers.clone()),
+      Map.entry("getOnlinePlayers", args -> Collections.unmodifiableList(onlinePlayers)),
+      Map.entry("getPlayerExact", args -> onlineByName.get(((String) args[0]).toLowerCase(Locale.ROOT))),
+      // Only the UUID overload, the name overload is deprecated and unused
+      Map.entry("getOfflinePlayer", args -> lookupOfflinePlayer((UUID) args[0]))
+    ));
+  }
+
+  /**
+   * Generate a unique, minecraft-like player name
+   * @param random Random source
+   * @param index Index of the player, which makes the name unique
+   */
+  private static String generateName(Random random, int index) {
+    String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ_";
+    String suffix = Integer.toString(index);
+
+    StringBuilder sb = new StringBuilder();
+    int len = 3 + random.nextInt(16 - 3 - suffix.length() + 1);
+    for (int i = 0; i < len; i++)
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+
+    return sb.append(suffix).toString();
+  }
+
+  /**
+   * Create a stub of an interface, where all unhandled methods return default values
+   * @param type Interface to stub
+   * @param handlers Method name to handler mapping
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[] { type }, (proxy, method, args) -> {
+      Function<Object[], Object> handler = handlers.get(method.getName());
+      if (handler != null)
+        return handler.apply(args);
+
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+      }
+
+      return defaultValue(method.getReturnType());
+    });
+  }
+
+  /**
+   * Get the default value of a type, as used for uninitialized fields
+   */
+  private static Object defaultValue(Class<?> type) {
+    if (!type.isPrimitive() || type == void.class)
+      return null;
+
+    if (type == boolean.class)
+      return false;
+
+    if (type == char.class)
+      return '\0';
+
+    if (type == long.class)
+      return 0L;
+
+    if (type == float.class)
+      return 0F;
+
+    if (type == double.class)
+      return 0D;
+
+    if (type == byte.class)
+      return (byte) 0;
+
+    if (type == short.class)
+      return (short) 0;
+
+    return 0;
+  }
+}
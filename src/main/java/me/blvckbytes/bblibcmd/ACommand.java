@@ -1,6 +1,7 @@
 package me.blvckbytes.bblibcmd;
 
 import lombok.Getter;
+import lombok.Setter;
 import me.blvckbytes.bblibcmd.exception.*;
 import me.blvckbytes.bblibconfig.ConfigValue;
 import me.blvckbytes.bblibreflect.IPacketInterceptor;
@@ -23,10 +24,12 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,13 +54,44 @@ import java.util.stream.Stream;
 */
 public abstract class ACommand extends Command {
 
+  // Maximum number of suggestions taken from a plain stream for ranking, as
+  // streams of suggest helpers over large populations are potentially huge
+  private static final int MAX_STREAMED_SUGGESTIONS = 100;
+
+  // Maximum time an asynchronous invocation waits for a task on the main thread
+  private static final long SYNC_CALL_TIMEOUT_MS = 30 * 1000;
+
+  // Collector of the narrowable completion which is running on the current thread, so
+  // that stream based player suggestions can mark it as depending on player names
+  private static final ThreadLocal<SuggestionCollector> narrowableCompletion = new ThreadLocal<>();
+
   // Arguments this command may be invoked with
   private final CommandArgument[] cmdArgs;
 
-  // Mapping command names to their dispatchers
-  private static final Map<String, ACommand> registeredCommands;
+  // Config to build snapshots from
+  private final IConfig cfg;
+
+  // Everything read from the config, swapped out as a whole on reload
+  private final AtomicReference<CommandSnapshot> snapshot;
+
+  // Plugin which registered this command
+  @Getter
+  private final JavaPlugin plugin;
+
+  // Plan to parse typed arguments with, null if there are none
+  private final @Nullable ArgumentPlan argumentPlan;
 
-  private final CommandHandlerSection sect;
+  // Distinct argument permissions to check, indexed by the number of typed arguments
+  private final String[][] argPermissions;
+
+  // Latencies and outcomes of executions and completions
+  @Getter
+  private final CommandStats stats;
+
+
+  // Limits of players' executions and completions, null if unlimited
+  @Getter @Setter
+  private volatile @Nullable RateLimit executionLimit, completionLimit;
 
   @AutoInjectLate private TimeUtil timeUtil;
   @AutoInjectLate private IPacketInterceptor interceptor;
@@ -67,10 +101,6 @@ public abstract class ACommand extends Command {
   @Getter
   private final String rootPerm;
 
-  static {
-    registeredCommands = new HashMap<>();
-  }
-
   /**
    * @param plugin Plugin ref
    * @param cfg Config ref
@@ -111,38 +141,26 @@ public abstract class ACommand extends Command {
     if (rootPerm != null)
       setPermission(rootPerm);
 
-    // Command handler config section is absolutely mandatory
-    this.sect = cfg.reader("config")
-      .flatMap(r -> r.parseValue("messages", CommandHandlerSection.class, true))
-      .orElseThrow();
-
-    // Patch all argument descriptions using config values
-    Map<String, ConfigValue> argDescs = getDescriptionSection(cfg, getName()).getArgs();
-    for (CommandArgument arg : cmdArgs) {
-      ConfigValue argDesc = argDescs.get(arg.getNormalizedName());
-      arg.setDescription(argDesc == null ? "" : argDesc.asScalar());
-    }
+    this.cfg = cfg;
+    this.snapshot = new AtomicReference<>(buildSnapshot(cfg, getName(), cmdArgs));
+    applyDescriptions(snapshot.get(), cmdArgs);
 
     this.cmdArgs = cmdArgs;
     this.rootPerm = rootPerm;
+    this.plugin = plugin;
+    this.argPermissions = buildArgPermissions(cmdArgs);
+    this.argumentPlan = ArgumentPlan.compile(cmdArgs);
+    this.stats = new CommandStats();
 
-    // Register this command within the server's command map
-    try {
-      Object srv = Bukkit.getServer();
-      Field cmF = srv.getClass().getDeclaredField("commandMap");
-      cmF.setAccessible(true);
-      Object commandMap = cmF.get(srv);
+    // Start tracking players right away, which also starts building the offline name index
+    bindSharedResources(plugin);
 
-      // The register method is in CraftCommandMap's parent class, the SimpleCommandMap
-      commandMap.getClass()
-        .getSuperclass()
-        .getDeclaredMethod("register", String.class, Command.class)
-        .invoke(commandMap, plugin.getName(), this);
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
+    // Register this command within the registry and the server's command map
+    CommandRegistry.add(this);
 
-    registeredCommands.put(name, this);
+    // Hook into asynchronous completion, if available
+    if (isCompletionAsync())
+      AsyncCompletionHandler.register(plugin);
   }
 
   //=========================================================================//
@@ -157,15 +175,81 @@ public abstract class ACommand extends Command {
    */
   protected abstract void invoke(CommandSender cs, String label, String[] args) throws CommandException;
 
+  /**
+   * Callback method for invocations of commands with typed arguments, which
+   * is only called after all arguments have been parsed successfully.
+   * Defaults to {@link #invoke(CommandSender, String, String[])}.
+   * @param cs Executing command sender
+   * @param label Label of the command, either name or an alias
+   * @param ctx Parsed values of all arguments
+   */
+  protected void invoke(CommandSender cs, String label, ArgumentContext ctx) throws CommandException {
+    invoke(cs, label, ctx.getArgs());
+  }
+
   /**
    * Callback method for command autocompletion (tab)
    * @param cs Executing command sender
    * @param args Existing arguments in the chat-bar
    * @param currArg Index of the current argument within args
-   * @return Stream of suggestions, will limited to 10 internally
+   * @return Stream of suggestions, will be ranked and limited to 10 internally
    */
   protected abstract Stream<String> onTabCompletion(CommandSender cs, String[] args, int currArg);
 
+  /**
+   * Callback method for command autocompletion (tab) which adds suggestions to a
+   * collector, ranking them and keeping only the best ones. Defaults to adding
+   * the first suggestions of {@link #onTabCompletion(CommandSender, String[], int)}.
+   * @param cs Executing command sender
+   * @param args Existing arguments in the chat-bar
+   * @param currArg Index of the current argument within args
+   * @param collector Collector of suggestions, limited to 10 items
+   */
+  protected void onTabCompletion(CommandSender cs, String[] args, int currArg, SuggestionCollector collector) {
+    collector.addAll(onTabCompletion(cs, args, currArg).limit(MAX_STREAMED_SUGGESTIONS));
+  }
+
+  /**
+   * Whether {@link #onTabCompletion} may be called off the main thread, in which
+   * case completions are computed on the server's asynchronous tab complete thread, if supported
+   * @return True if completions are thread-safe, false otherwise
+   */
+  protected boolean isCompletionAsync() {
+    return false;
+  }
+
+  /**
+   * Whether {@link #invoke} should be called off the main thread, after all permissions
+   * have been checked and all typed arguments have been parsed on the calling thread.
+   * Use {@link #callSync} or {@link #runSync} to access the Bukkit API from within.
+   * @return True if invocations are thread-safe, false otherwise
+   */
+  protected boolean isExecutionAsync() {
+    return false;
+  }
+
+  /**
+   * Whether a player's completions of an argument may be answered by narrowing down the
+   * completions of a shorter query, which were remembered for a few seconds. Override to opt
+   * in for arguments whose suggestions are a pure filter of the query over a set which doesn't
+   * change while typing. Completions which used the player suggestion helpers are forgotten
+   * as soon as a player joins or quits, all others only expire.
+   * @param currArg Index of the argument which is being completed
+   * @return True if completions may be narrowed down, false otherwise
+   */
+  protected boolean isCompletionNarrowable(int currArg) {
+    return false;
+  }
+
+  /**
+   * Get the maximum time an asynchronous completion request may take,
+   * after which all results available so far are sent
+   * @return Deadline in milliseconds
+   */
+  protected long getCompletionDeadline() {
+    return 50;
+  }
+
   //=========================================================================//
   //                                 Command                                 //
   //=========================================================================//
@@ -177,37 +261,93 @@ public abstract class ACommand extends Command {
     @NotNull String alias,
     @NotNull String[] args
   ) throws IllegalArgumentException {
+    // Call tab completion handler and limit the results to 10 items
+    SuggestionCollector collector = createCollector(args);
+    complete(sender, args, collector);
+    return collector.toList();
+  }
+
+  /**
+   * Create a new collector for the currently focused argument
+   * @param args Existing arguments in the chat-bar
+   * @return Collector limited to 10 items
+   */
+  SuggestionCollector createCollector(String[] args) {
+    return new SuggestionCollector(args.length == 0 ? "" : args[args.length - 1], 10);
+  }
+
+  /**
+   * Check all permissions and collect the completions for the provided arguments
+   * @param sender Sender which requested the completion
+   * @param args Existing arguments in the chat-bar
+   * @param collector Collector to add suggestions to
+   */
+  void complete(CommandSender sender, String[] args, SuggestionCollector collector) {
+    CommandWatchdog.Watch watch = CommandWatchdog.enter(this, "completion", sender, args);
+    long start = System.nanoTime();
+
+    try {
+      collect(sender, args, collector);
+    } finally {
+      stats.recordCompletion(System.nanoTime() - start, collector.size());
+      CommandWatchdog.exit(watch);
+    }
+  }
+
+  /**
+   * Check all permissions and collect the completions for the provided arguments
+   * @param sender Sender which requested the completion
+   * @param args Existing arguments in the chat-bar
+   * @param collector Collector to add suggestions to
+   */
+  private void collect(CommandSender sender, String[] args, SuggestionCollector collector) {
     // Nothing to auto-complete
-    if (cmdArgs.length == 0)
-      return new ArrayList<>();
+    if (!hasCompletions())
+      return;
 
     // Calculate the arg index
     int currArg = Math.max(0, args.length - 1);
 
     // Console requested completion
     if (!(sender instanceof Player)) {
-      return onTabCompletion(sender, args, currArg)
-        .limit(10)
-        .collect(Collectors.toList());
+      onTabCompletion(sender, args, currArg, collector);
+      return;
     }
 
     Player p = (Player) sender;
 
-    // Doesn't have permission to invoke this command
-    if (rootPerm != null && !p.hasPermission(rootPerm))
-      return new ArrayList<>();
+    // Completing too frequently, answer with no suggestions
+    RateLimit completionLimit = this.completionLimit;
+    if (completionLimit != null && !RateLimiter.getInstance(plugin).tryAcquire(p.getUniqueId(), completionLimit))
+      return;
 
-    // Get it's connected permission
-    String argPerm = cmdArgs[Math.min(currArg, cmdArgs.length - 1)].getPermission();
+    // Doesn't have permission to invoke this command
+    if (rootPerm != null && !getPermissionCache().hasPermission(p, rootPerm))
+      return;
 
     // Doesn't have permission for this arg
-    if (argPerm != null && !p.hasPermission(argPerm))
-      return new ArrayList<>();
+    if (!isArgumentPermitted(p, currArg))
+      return;
 
-    // Call tab completion handler and limit the results to 10 items
-    return onTabCompletion(p, args, currArg)
-      .limit(10)
-      .collect(Collectors.toList());
+    if (!isCompletionNarrowable(currArg)) {
+      onTabCompletion(p, args, currArg, collector);
+      return;
+    }
+
+    // Still typing out the same word, narrow down the previous completions
+    if (CompletionNarrowingCache.getInstance(plugin).narrow(p.getUniqueId(), this, args, currArg, collector))
+      return;
+
+    SuggestionCollector outer = narrowableCompletion.get();
+    narrowableCompletion.set(collector);
+
+    try {
+      onTabCompletion(p, args, currArg, collector);
+    } finally {
+      narrowableCompletion.set(outer);
+    }
+
+    CompletionNarrowingCache.getInstance(plugin).remember(p.getUniqueId(), this, args, currArg, collector);
   }
 
   @Override
@@ -217,46 +357,262 @@ public abstract class ACommand extends Command {
     @NotNull String[] args
   ) {
     Player p = cs instanceof Player ? (Player) cs : null;
+    CommandWatchdog.Watch watch = CommandWatchdog.enter(this, "execution", cs, args);
+    long start = System.nanoTime();
+    CommandException error = null;
+    boolean handedOff = false;
 
     try {
-      // Check for the top level permission
-      if (rootPerm != null && p != null && !p.hasPermission(rootPerm))
-        throw new MissingPermissionException(sect, rootPerm, gradientGenerator);
-
-      // Check for all permissions regarding arguments
-      for (int i = 0; i < args.length; i++) {
-        String argPerm = cmdArgs[Math.min(i, cmdArgs.length - 1)].getPermission();
-        if (argPerm != null && p != null && !p.hasPermission(argPerm))
-          throw new MissingPermissionException(sect, rootPerm, gradientGenerator);
+      if (p != null) {
+        // Executing too frequently
+        RateLimit executionLimit = this.executionLimit;
+        if (executionLimit != null && !RateLimiter.getInstance(plugin).tryAcquire(p.getUniqueId(), executionLimit))
+          throw RateLimitedException.of(getSect(), gradientGenerator);
+
+        // Check for the top level permission, always live, as revocations have to apply immediately
+        if (rootPerm != null && !p.hasPermission(rootPerm))
+          throw MissingPermissionException.of(getSect(), rootPerm, gradientGenerator);
+
+        // Check for all distinct permissions regarding arguments
+        ensureArgumentPermissions(p, args);
       }
 
-      invoke(cs, label, args);
+      // Parse all typed arguments ahead of invocation
+      ArgumentContext ctx = parseArguments(args);
+
+      // Hand off to the executor, which records it's own statistics
+      if (isExecutionAsync()) {
+        invokeAsync(cs, label, args, ctx, start);
+        handedOff = true;
+        return true;
+      }
+
+      dispatch(cs, label, args, ctx);
       return true;
     }
 
     // Command exception occurred, send to command sender
     catch (CommandException ce) {
-      if (p == null) {
-        cs.sendMessage(ce.getGetComponent().toPlainText());
-        return false;
+      error = ce;
+      sendException(cs, ce);
+      return false;
+    }
+
+    finally {
+      if (!handedOff)
+        stats.recordExecution(System.nanoTime() - start, error);
+
+      CommandWatchdog.exit(watch);
+    }
+  }
+
+  /**
+   * Invoke the command on the executor, where exceptions are sent to the sender
+   * @param cs Executing command sender
+   * @param label Label of the command, either name or an alias
+   * @param args Args passed with the command
+   * @param ctx Parsed values of all arguments, null if there are no typed arguments
+   * @param start Time the execution started at, in nanoseconds
+   */
+  private void invokeAsync(CommandSender cs, String label, String[] args, @Nullable ArgumentContext ctx, long start) {
+    AsyncExecution.get().execute(() -> {
+      CommandWatchdog.Watch watch = CommandWatchdog.enter(this, "asynchronous execution", cs, args);
+      CommandException error = null;
+
+      try {
+        dispatch(cs, label, args, ctx);
       }
 
-      if (interceptor == null)
-        throw new IllegalStateException("Didn't receive an IPacketInterceptor reference");
+      catch (CommandException ce) {
+        error = ce;
+        sendException(cs, ce);
+      }
 
-      interceptor.getPacketCommunicatorRegistry().sendToPlayer(
-        new ChatMessageParameter(ce.getGetComponent(), p.getUniqueId(), ChatMessageType.CHAT),
-        p, null
-      );
+      // There's no caller left which could handle this exception
+      catch (Exception e) {
+        plugin.getLogger().log(Level.SEVERE, "Asynchronous invocation of /" + getName() + " failed", e);
 
-      return false;
+        sendException(cs, internalError());
+      }
+
+      finally {
+        stats.recordExecution(System.nanoTime() - start, error);
+        CommandWatchdog.exit(watch);
+      }
+    });
+  }
+
+  /**
+   * Call the matching invocation callback
+   * @param cs Executing command sender
+   * @param label Label of the command, either name or an alias
+   * @param args Args passed with the command
+   * @param ctx Parsed values of all arguments, null if there are no typed arguments
+   */
+  private void dispatch(CommandSender cs, String label, String[] args, @Nullable ArgumentContext ctx) throws CommandException {
+    if (ctx != null)
+      invoke(cs, label, ctx);
+    else
+      invoke(cs, label, args);
+  }
+
+  /**
+   * Whether this command has anything to auto-complete at all
+   */
+  boolean hasCompletions() {
+    return cmdArgs.length > 0;
+  }
+
+  /**
+   * Check whether a player may complete an argument, by it's position
+   * @param p Target player
+   * @param currArg Index of the argument which is being completed
+   */
+  boolean isArgumentPermitted(Player p, int currArg) {
+    String argPerm = cmdArgs[Math.min(currArg, cmdArgs.length - 1)].getPermission();
+    return argPerm == null || getPermissionCache().hasPermission(p, argPerm);
+  }
+
+  /**
+   * Ensure that a player has all distinct permissions of the arguments
+   * they're executing with, by their position
+   * @param p Target player
+   * @param args Args passed with the command
+   */
+  void ensureArgumentPermissions(Player p, String[] args) throws CommandException {
+    for (String argPerm : argPermissions[Math.min(args.length, cmdArgs.length)]) {
+      if (!p.hasPermission(argPerm))
+        throw MissingPermissionException.of(getSect(), rootPerm, gradientGenerator);
     }
   }
 
+  /**
+   * Parse all typed arguments ahead of invocation, by their position
+   * @param args Args passed with the command
+   * @return Parsed values of all arguments, null if there are no typed arguments
+   */
+  @Nullable ArgumentContext parseArguments(String[] args) throws CommandException {
+    return argumentPlan == null ? null : argumentPlan.parse(this, args);
+  }
+
   //=========================================================================//
   //                            Internal Utilities                           //
   //=========================================================================//
 
+  ///////////////////////////////// Messages /////////////////////////////////
+
+  /**
+   * Get the command handler section of the current snapshot
+   */
+  protected CommandHandlerSection getSect() {
+    return snapshot.get().getSect();
+  }
+
+  /**
+   * Send a message from the config to a command sender
+   * @param cs Command sender to send to
+   * @param message Message to send, with all variables applied
+   */
+  protected void sendMessage(CommandSender cs, ConfigValue message) {
+    sendMessage(cs, message.asComponent(gradientGenerator));
+  }
+
+  /**
+   * Send a message to a command sender, where players receive the full
+   * component and all other senders receive it's plain text
+   * @param cs Command sender to send to
+   * @param component Message to send
+   */
+  protected void sendMessage(CommandSender cs, IComponent component) {
+    if (!(cs instanceof Player)) {
+      cs.sendMessage(component.toPlainText());
+      return;
+    }
+
+    if (interceptor == null)
+      throw new IllegalStateException("Didn't receive an IPacketInterceptor reference");
+
+    Player p = (Player) cs;
+    interceptor.getPacketCommunicatorRegistry().sendToPlayer(
+      new ChatMessageParameter(component, p.getUniqueId(), ChatMessageType.CHAT),
+      p, null
+    );
+  }
+
+  /**
+   * Send all messages of a command exception to a command sender
+   * @param cs Command sender to send to
+   * @param ce Exception to send
+   */
+  private void sendException(CommandSender cs, CommandException ce) {
+    CommandSnapshot snap = snapshot.get();
+
+    for (IComponent component : ce.getComponents()) {
+      // Shared errors and usages recur byte-for-byte, so their payloads are cached
+      boolean recurring = ce.isShared() || snap.isUsage(component);
+
+      if (recurring && cs instanceof Player && ChatPayloadCache.send((Player) cs, component))
+        continue;
+
+      sendMessage(cs, component);
+    }
+  }
+
+  /////////////////////////////// Main Thread ////////////////////////////////
+
+  /**
+   * Call a task on the main thread and wait for it's result, which is
+   * called right away if the current thread already is the main thread
+   * @param task Task to call, may throw command exceptions
+   * @return Result of the task
+   */
+  protected <T> T callSync(Callable<T> task) throws CommandException {
+    try {
+      if (Bukkit.isPrimaryThread())
+        return task.call();
+
+      return Bukkit.getScheduler()
+        .callSyncMethod(plugin, task)
+        .get(SYNC_CALL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    catch (CommandException e) {
+      throw e;
+    }
+
+    catch (ExecutionException e) {
+      if (e.getCause() instanceof CommandException)
+        throw (CommandException) e.getCause();
+
+      plugin.getLogger().log(Level.SEVERE, "A main thread task of /" + getName() + " failed", e.getCause());
+      throw internalError();
+    }
+
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw internalError();
+    }
+
+    catch (Exception e) {
+      plugin.getLogger().log(Level.SEVERE, "A main thread task of /" + getName() + " failed", e);
+      throw internalError();
+    }
+  }
+
+  /**
+   * Run a task on the main thread without waiting for it, which is
+   * run right away if the current thread already is the main thread
+   * @param task Task to run
+   */
+  protected void runSync(Runnable task) {
+    if (Bukkit.isPrimaryThread()) {
+      task.run();
+      return;
+    }
+
+    Bukkit.getScheduler().runTask(plugin, task);
+  }
+
   /////////////////////////////// Suggestions //////////////////////////////////
 
   /**
@@ -264,14 +620,14 @@ public abstract class ACommand extends Command {
    * @param args Already typed out arguments
    * @param currArg Currently focused argument
    * @param enumClass Class of the target enum
-   * @return Stream of suggestions
+   * @return Stream of suggestions, best matches first
    */
   protected<T extends Enum<T>> Stream<String> suggestEnum(
     String[] args,
     int currArg,
     Class<T> enumClass
   ) {
-    return suggestEnum(args, currArg, enumClass, (acc, curr) -> acc.add(curr.name()));
+    return streamRanked(new SuggestionMatcher(args[currArg]), EnumLookup.of(enumClass).getSortedNames());
   }
 
   /**
@@ -280,7 +636,7 @@ public abstract class ACommand extends Command {
    * @param currArg Currently focused argument
    * @param enumClass Class of the target enum
    * @param reducer Reducing function (acc, curr)
-   * @return Stream of suggestions
+   * @return Stream of suggestions, best matches first
    */
   protected<T extends Enum<T>> Stream<String> suggestEnum(
     String[] args,
@@ -288,16 +644,41 @@ public abstract class ACommand extends Command {
     Class<T> enumClass,
     BiConsumer<List<String>, T> reducer
   ) {
-    // Collect all enum values through the reducer
-    List<String> suggestions = new ArrayList<>();
-    for (T c : enumClass.getEnumConstants())
-      reducer.accept(suggestions, c);
+    return streamRanked(new SuggestionMatcher(args[currArg]), reduceSorted(enumClass, reducer));
+  }
 
-    // Filter and sort the reducer's resutls
-    return suggestions
-      .stream()
-      .sorted()
-      .filter(m -> m.toLowerCase().contains(args[currArg].toLowerCase()));
+  /**
+   * Suggest an enum's values as autocompletion by using a custom reducer, used with {@link #onTabCompletion}
+   * @param collector Collector to add suggestions to
+   * @param enumClass Class of the target enum
+   * @param reducer Reducing function (acc, curr)
+   */
+  protected<T extends Enum<T>> void suggestEnum(
+    SuggestionCollector collector,
+    Class<T> enumClass,
+    BiConsumer<List<String>, T> reducer
+  ) {
+    addRanked(collector, reduceSorted(enumClass, reducer));
+  }
+
+  /**
+   * Suggest an enum's values as autocompletion, used with {@link #onTabCompletion}
+   * @param collector Collector to add suggestions to
+   * @param enumClass Class of the target enum
+   */
+  protected<T extends Enum<T>> void suggestEnum(SuggestionCollector collector, Class<T> enumClass) {
+    SuggestionMatcher matcher = collector.getMatcher();
+
+    EnumLookup<T> lookup = EnumLookup.of(enumClass);
+
+    if (!addRanked(collector, lookup.getSortedNames()) || collector.isFull(SuggestionRank.FUZZY))
+      return;
+
+    // Near-matches of typos, which haven't been suggested already
+    for (String name : lookup.getFuzzyIndex().search(matcher.getQuery(), true, collector.getLimit())) {
+      if (!matcher.contains(name) && !collector.add(name, SuggestionRank.FUZZY))
+        return;
+    }
   }
 
   /**
@@ -323,18 +704,30 @@ public abstract class ACommand extends Command {
    * @return Stream of suggestions
    */
   protected Stream<String> suggestOnlinePlayers(Player p, String[] args, int currArg, boolean suggestAll, List<Player> exclude) {
-    Stream<? extends Player> players = Bukkit.getOnlinePlayers()
-      .stream()
-      .filter(o -> !exclude.contains(o))
-      .filter(p::canSee);
+    markPlayerDependent(null);
 
-    Stream<String> names = players
-      .map(Player::getDisplayName);
+    SuggestionMatcher matcher = new SuggestionMatcher(args[currArg]);
+    Stream<String> names = OnlinePlayerIndex.getInstance(plugin).query(matcher, p, toIds(exclude));
 
     return (
-      suggestAll ? Stream.concat(Stream.of("all"), names) : names
-    )
-      .filter(n -> n.toLowerCase().contains(args[currArg].toLowerCase()));
+      suggestAll && matcher.contains("all") ? Stream.concat(Stream.of("all"), names) : names
+    );
+  }
+
+  /**
+   * Suggest all currently online players, except the exclusion
+   * @param p Invoking player
+   * @param collector Collector to add suggestions to
+   * @param suggestAll Whether to suggest "all" as an option
+   * @param exclude Players to exclude from the suggestion
+   */
+  protected void suggestOnlinePlayers(Player p, SuggestionCollector collector, boolean suggestAll, List<Player> exclude) {
+    markPlayerDependent(collector);
+
+    if (suggestAll && collector.getMatcher().contains("all"))
+      collector.add("all");
+
+    OnlinePlayerIndex.getInstance(plugin).collect(collector, p, toIds(exclude));
   }
 
   /**
@@ -355,15 +748,43 @@ public abstract class ACommand extends Command {
    * @return Stream of suggestions
    */
   protected Stream<String> suggestOfflinePlayers(String[] args, int currArg, List<OfflinePlayer> exclude) {
-    return Stream.concat(
-      Arrays.stream(Bukkit.getOfflinePlayers()),
-      Bukkit.getOnlinePlayers().stream()
-    )
-      .filter(p -> !exclude.contains(p))
-      .filter(OfflinePlayer::hasPlayedBefore)
-      .map(OfflinePlayer::getName)
-      .filter(Objects::nonNull)
-      .filter(n -> n.toLowerCase().contains(args[currArg].toLowerCase()));
+    Set<String> excludedNames = new HashSet<>();
+    for (OfflinePlayer p : exclude) {
+      if (p.getName() != null)
+        excludedNames.add(p.getName().toLowerCase(Locale.ROOT));
+    }
+
+    markPlayerDependent(null);
+    return OfflinePlayerNameIndex.getInstance(plugin).query(new SuggestionMatcher(args[currArg]), excludedNames);
+  }
+
+  /**
+   * Suggest all players that have ever played on this server, except the exclusion
+   * @param collector Collector to add suggestions to
+   * @param exclude Players to exclude from the suggestion
+   */
+  protected void suggestOfflinePlayers(SuggestionCollector collector, List<OfflinePlayer> exclude) {
+    Set<String> excludedNames = new HashSet<>();
+    for (OfflinePlayer p : exclude) {
+      if (p.getName() != null)
+        excludedNames.add(p.getName().toLowerCase(Locale.ROOT));
+    }
+
+    markPlayerDependent(collector);
+    OfflinePlayerNameIndex.getInstance(plugin).collect(collector, excludedNames);
+  }
+
+  /**
+   * Mark a completion as depending on player names, so that it's not
+   * narrowed down anymore once a player joins or quits
+   * @param collector Collector of the completion, null to mark the narrowable completion of this thread
+   */
+  private static void markPlayerDependent(@Nullable SuggestionCollector collector) {
+    if (collector == null)
+      collector = narrowableCompletion.get();
+
+    if (collector != null)
+      collector.markPlayerDependent();
   }
 
   /**
@@ -376,12 +797,63 @@ public abstract class ACommand extends Command {
   protected Stream<String> suggestText(String[] args, int start, Collection<String> lines) {
     StringBuilder sb = new StringBuilder();
     for (int i = start; i < args.length; i++)
-      sb.append(i == 0 ? "" : " ").append(args[i].toLowerCase());
+      sb.append(i == 0 ? "" : " ").append(args[i]);
 
-    String typed = sb.toString();
+    SuggestionMatcher matcher = new SuggestionMatcher(sb.toString());
     return lines
       .stream()
-      .filter(line -> line.toLowerCase().startsWith(typed));
+      .filter(matcher::startsWith);
+  }
+
+  /**
+   * Stream sorted names which match a query, exact and prefix matches
+   * first, so that limiting the stream keeps the best matches
+   * @param matcher Matcher of the query
+   * @param sortedNames Names in their natural order
+   */
+  private static Stream<String> streamRanked(SuggestionMatcher matcher, List<String> sortedNames) {
+    return Stream.concat(
+      sortedNames.stream().filter(matcher::startsWith),
+      sortedNames.stream().filter(name -> !matcher.startsWith(name) && matcher.contains(name))
+    );
+  }
+
+  /**
+   * Add sorted names which match the collector's query with their rank, best rank
+   * first, and stop as soon as the collector doesn't accept that rank anymore
+   * @param collector Collector to add suggestions to
+   * @param sortedNames Names in their natural order
+   * @return False if the collector stopped accepting suggestions before all names were added
+   */
+  private static boolean addRanked(SuggestionCollector collector, List<String> sortedNames) {
+    SuggestionMatcher matcher = collector.getMatcher();
+
+    // An exact match sorts before all names it's a prefix of
+    for (String name : sortedNames) {
+      if (matcher.startsWith(name) && !collector.add(name, matcher.isExact(name) ? SuggestionRank.EXACT : SuggestionRank.PREFIX))
+        return false;
+    }
+
+    for (String name : sortedNames) {
+      if (!matcher.startsWith(name) && matcher.contains(name) && !collector.add(name, SuggestionRank.SUBSTRING))
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Reduce all constants of an enum into a sorted list of names
+   * @param enumClass Class of the target enum
+   * @param reducer Reducing function (acc, curr)
+   */
+  private static <T extends Enum<T>> List<String> reduceSorted(Class<T> enumClass, BiConsumer<List<String>, T> reducer) {
+    List<String> names = new ArrayList<>();
+    for (T c : EnumLookup.of(enumClass).getConstants())
+      reducer.accept(names, c);
+
+    names.sort(null);
+    return names;
   }
 
   ///////////////////////////////// Usage ////////////////////////////////////
@@ -396,18 +868,83 @@ public abstract class ACommand extends Command {
   }
 
   /**
-   * Build the usage-string in advanced mode, which supports hover tooltips
+   * Build the usage-string in advanced mode, which supports hover tooltips. The
+   * returned component is cached and shared, so it must not be mutated.
    * @param focusedArgument The argument that should be focused using the focus color
    * @return Array of components
    */
   protected IComponent buildUsage(@Nullable Integer focusedArgument) {
+    CommandSnapshot snap = snapshot.get();
+
+    // Render all variants if the generator changed since or they haven't been rendered yet
+    if (!snap.isRenderedFor(gradientGenerator)) {
+      CommandSnapshot rendered = renderUsages(snap);
+
+      // Another reload may have been published meanwhile, which must not be replaced
+      snapshot.compareAndSet(snap, rendered);
+      snap = rendered;
+    }
+
+    return snap.getUsage(focusedArgument);
+  }
+
+  /**
+   * Drop all rendered usage components, which causes them to be
+   * rendered again, as argument descriptions may have changed
+   */
+  protected void invalidateUsage() {
+    CommandSnapshot snap = snapshot.get();
+    List<String> argDescriptions = Arrays.stream(cmdArgs)
+      .map(CommandArgument::getDescription)
+      .collect(Collectors.toList());
+
+    snapshot.compareAndSet(snap, new CommandSnapshot(snap.getSect(), snap.getDescription(), argDescriptions, null, null));
+  }
+
+  /**
+   * Apply the descriptions of a snapshot to the command and it's arguments, which
+   * are only kept in sync for external readers, as all calls read the snapshot
+   * @param snap Snapshot to apply
+   * @param cmdArgs Arguments of the command
+   */
+  private void applyDescriptions(CommandSnapshot snap, CommandArgument[] cmdArgs) {
+    setDescription(snap.getDescription());
+
+    for (int i = 0; i < cmdArgs.length; i++)
+      cmdArgs[i].setDescription(snap.getArgumentDescription(i));
+  }
+
+  /**
+   * Render all usage variants of a snapshot
+   * @param snap Snapshot to render from
+   * @return Copy of the snapshot which holds it's rendered usages
+   */
+  private CommandSnapshot renderUsages(CommandSnapshot snap) {
+    IComponent[] usages = new IComponent[cmdArgs.length + 1];
+
+    for (int i = 0; i < cmdArgs.length; i++)
+      usages[i] = renderUsage(snap, i);
+    usages[cmdArgs.length] = renderUsage(snap, null);
+
+    return snap.withUsages(gradientGenerator, usages);
+  }
+
+  /**
+   * Render the usage-string in advanced mode, which supports hover tooltips
+   * @param snap Snapshot to render from
+   * @param focusedArgument The argument that should be focused using the focus color
+   * @return Array of components
+   */
+  private IComponent renderUsage(CommandSnapshot snap, @Nullable Integer focusedArgument) {
+    CommandHandlerSection sect = snap.getSect();
+
     TextComponent head = new TextComponent(
       sect.getUsageMismatchPrefix().withPrefix() +
       sect.getUsageColorOther() + "/" + getName()
     );
 
     // Set the command's description as a tooltip
-    head.setHover(HoverAction.SHOW_TEXT, TextComponent.parseFromText(sect.getUsageColorOther() + getDescription(), gradientGenerator));
+    head.setHover(HoverAction.SHOW_TEXT, TextComponent.parseFromText(sect.getUsageColorOther() + snap.getDescription(), gradientGenerator));
 
     // Add all it's arguments with their descriptive text as hover-tooltips
     for (int i = 0; i < this.cmdArgs.length; i++) {
@@ -418,47 +955,75 @@ public abstract class ACommand extends Command {
 
       // Decide whether to colorize the argument using normal
       // colors or using the focus color based on it's positional index
-      TextComponent usage = new TextComponent(colorizeUsageString(arg.getName(), (focusedArgument != null && focusedArgument == i)));
-      usage.setHover(HoverAction.SHOW_TEXT, TextComponent.parseFromText(sect.getUsageColorOther() + arg.getDescription(), gradientGenerator));
+      TextComponent usage = new TextComponent(colorizeUsageString(sect, arg.getName(), (focusedArgument != null && focusedArgument == i)));
+      usage.setHover(HoverAction.SHOW_TEXT, TextComponent.parseFromText(sect.getUsageColorOther() + snap.getArgumentDescription(i), gradientGenerator));
       head.addSibling(usage);
     }
 
     return head;
   }
 
+  /**
+   * Render the usage-string of a path of words, where the command's description
+   * is the only hover-tooltip, as the words don't carry any descriptions
+   * @param words Words following the command's name, use [] for optional and <> for mandatory arguments
+   * @param focusedWord The word that should be focused using the focus color, null for none
+   * @return Usage component
+   */
+  IComponent renderPathUsage(List<String> words, @Nullable Integer focusedWord) {
+    CommandSnapshot snap = snapshot.get();
+    CommandHandlerSection sect = snap.getSect();
+
+    TextComponent head = new TextComponent(
+      sect.getUsageMismatchPrefix().withPrefix() +
+      sect.getUsageColorOther() + "/" + getName()
+    );
+
+    // Set the command's description as a tooltip
+    head.setHover(HoverAction.SHOW_TEXT, TextComponent.parseFromText(sect.getUsageColorOther() + snap.getDescription(), gradientGenerator));
+
+    for (int i = 0; i < words.size(); i++) {
+      head.addSibling(new TextComponent(" "));
+      head.addSibling(new TextComponent(colorizeUsageString(sect, words.get(i), (focusedWord != null && focusedWord == i))));
+    }
+
+    return head;
+  }
+
   ////////////////////////////// Error Creation ////////////////////////////////
 
   /**
    * Generate an internal error
    */
   protected CommandException internalError() {
-    return new InternalErrorException(sect, gradientGenerator);
+    return InternalErrorException.of(getSect(), gradientGenerator);
   }
 
   /**
    * Generate a not a player error
    */
   protected CommandException notAPlayer() {
-    return new NotAPlayerException(sect, gradientGenerator);
+    return NotAPlayerException.of(getSect(), gradientGenerator);
   }
 
   /**
    * Generate a usage error
    */
   protected CommandException usage() {
-    throw new CommandException(buildUsage(null));
+    return new CommandException(buildUsage(null));
   }
 
   /////////////////////////// Ensure Permission /////////////////////////////
 
   /**
-   * Ensure that the player has this permission, throw otherwise
+   * Ensure that the player has this permission, throw otherwise. This is always
+   * checked live, as cached decisions are only good enough for completions.
    * @param p Target player
    * @param perm Permission to test for
    */
   protected void ensurePermission(Player p, String perm) throws CommandException {
     if (!p.hasPermission(perm))
-      throw new MissingPermissionException(sect, perm, gradientGenerator);
+      throw MissingPermissionException.of(getSect(), perm, gradientGenerator);
   }
 
   ///////////////////////////// Parsing: Player ///////////////////////////////
@@ -490,7 +1055,43 @@ public abstract class ACommand extends Command {
 
     // The target player is not online at the moment
     if (target == null)
-      throw new OfflineTargetException(sect, args[index], gradientGenerator);
+      throw new OfflineTargetException(getSect(), args[index], gradientGenerator);
+
+    return target;
+  }
+
+  /**
+   * Get an online player which the sender can see by their name, by their
+   * display name or by a unique prefix of their name
+   * @param cs Sender of the command, which has to be able to see the target
+   * @param args Arguments of the command
+   * @param index Index within the arguments to use
+   */
+  protected Player onlinePlayer(CommandSender cs, String[] args, int index) throws CommandException {
+    return onlinePlayer(cs, args, index, null);
+  }
+
+  /**
+   * Get an online player which the sender can see by their name, by their
+   * display name or by a unique prefix of their name and provide a fallback
+   * @param cs Sender of the command, which has to be able to see the target
+   * @param args Arguments of the command
+   * @param index Index within the arguments to use
+   */
+  protected Player onlinePlayer(CommandSender cs, String[] args, int index, @Nullable Player argcFallback) throws CommandException {
+    // Index out of range
+    if (index >= args.length) {
+      // Fallback provided
+      if (argcFallback != null)
+        return argcFallback;
+      throw new CommandException(buildUsage(index));
+    }
+
+    Player target = OnlinePlayerIndex.getInstance(plugin).resolve(args[index], cs instanceof Player ? (Player) cs : null);
+
+    // The target player is not online, hidden from the sender or the prefix is ambiguous
+    if (target == null)
+      throw new OfflineTargetException(getSect(), args[index], gradientGenerator);
 
     return target;
   }
@@ -518,18 +1119,30 @@ public abstract class ACommand extends Command {
       throw new CommandException(buildUsage(index));
     }
 
+    Optional<OfflinePlayer> res;
+
+    // Probe the store, which knows every name that ever joined
+    PlayerNameStore nameStore = PlayerNameStore.getInstance(plugin);
+
+    if (nameStore.isAvailable() && PlayerNameStore.isStorable(args[index]))
+      res = Optional.ofNullable(nameStore.find(args[index])).map(Bukkit::getOfflinePlayer);
+
     // Find the first player that played before and has this name
-    Optional<OfflinePlayer> res = Stream.concat(
-      Arrays.stream(Bukkit.getOfflinePlayers()),
-      Bukkit.getOnlinePlayers().stream()
-    )
-      .filter(OfflinePlayer::hasPlayedBefore)
-      .filter(n -> n.getName() != null && n.getName().equals(args[index]))
-      .findFirst();
-
-    // That player has never played before
-    if (res.isEmpty())
-      throw new UnknownTargetException(sect, args[index], gradientGenerator);
+    else {
+      res = Stream.concat(
+        Arrays.stream(Bukkit.getOfflinePlayers()),
+        Bukkit.getOnlinePlayers().stream()
+      )
+        .filter(OfflinePlayer::hasPlayedBefore)
+        .filter(n -> n.getName() != null && n.getName().equals(args[index]))
+        .findFirst();
+    }
+
+    // That player has never played before, hint at the closest known name
+    if (res.isEmpty()) {
+      String suggestion = OfflinePlayerNameIndex.getInstance(plugin).getFuzzyIndex().closest(args[index]);
+      throw new UnknownTargetException(getSect(), args[index], suggestion, gradientGenerator);
+    }
 
     return res.get();
   }
@@ -557,7 +1170,7 @@ public abstract class ACommand extends Command {
     // Duration invalid
     int dur = timeUtil.parseDuration(args[index]);
     if (dur < 0)
-      throw new InvalidDurationException(sect, args[index], gradientGenerator);
+      throw new InvalidDurationException(getSect(), args[index], gradientGenerator);
 
     return dur;
   }
@@ -591,7 +1204,7 @@ public abstract class ACommand extends Command {
     try {
       return Float.parseFloat(args[index].replace(",", "."));
     } catch (NumberFormatException e) {
-      throw new InvalidFloatException(sect, args[index], gradientGenerator);
+      throw new InvalidFloatException(getSect(), args[index], gradientGenerator);
     }
   }
 
@@ -622,10 +1235,28 @@ public abstract class ACommand extends Command {
     try {
       return Integer.parseInt(args[index]);
     } catch (NumberFormatException e) {
-      throw new InvalidIntegerException(sect, args[index], gradientGenerator);
+      throw new InvalidIntegerException(getSect(), args[index], gradientGenerator);
     }
   }
 
+  /**
+   * Try to parse an integer value from a string, which has to be within a range
+   * @param args Arguments of the command
+   * @param index Index within the arguments to use
+   * @param min Minimum value, inclusive
+   * @param max Maximum value, inclusive
+   * @return Parsed integer
+   */
+  protected int parseInt(String[] args, int index, int min, int max) throws CommandException {
+    int value = parseInt(args, index, null);
+
+    // Out of range values are just as invalid as malformed ones
+    if (value < min || value > max)
+      throw new InvalidIntegerException(getSect(), args[index], gradientGenerator);
+
+    return value;
+  }
+
   /**
    * Try to parse a UUID value from a string
    * @param args Arguments of the command
@@ -639,7 +1270,7 @@ public abstract class ACommand extends Command {
     try {
       return UUID.fromString(args[index]);
     } catch (IllegalArgumentException e) {
-      throw new InvalidUuidException(sect, args[index], gradientGenerator);
+      throw new InvalidUuidException(getSect(), args[index], gradientGenerator);
     }
   }
 
@@ -655,7 +1286,48 @@ public abstract class ACommand extends Command {
    * @return Parsed enum value
    */
   protected<T extends Enum<T>> T parseEnum(Class<T> enumClass, String[] args, int index, T argcFallback) throws CommandException {
-    return parseEnum(enumClass, args, index, argcFallback, (repr, con) -> con.name().equalsIgnoreCase(repr));
+    if (index >= args.length) {
+      if (argcFallback != null)
+        return argcFallback;
+      throw new CommandException(buildUsage(index));
+    }
+
+    EnumLookup<T> lookup = EnumLookup.of(enumClass);
+    T constant = lookup.find(args[index]);
+
+    // Could not find any matching constants, hint at the closest one
+    if (constant == null) {
+      String suggestion = lookup.getFuzzyIndex().closest(args[index]);
+      throw new InvalidEnumException(getSect(), args[index], lookup.getOptions(), suggestion, gradientGenerator);
+    }
+
+    return constant;
+  }
+
+  /**
+   * Parse an enum's value from a custom key (ignores casing) and provide a fallback
+   * in case the argument count isn't sufficient to fetch the required argument
+   * @param args Arguments of the command
+   * @param index Index within the arguments to use
+   * @param argcFallback Fallback value to use
+   * @param keys Index of a custom key, as registered by {@link EnumLookup#register}
+   * @return Parsed enum value
+   */
+  protected<T extends Enum<T>> T parseEnum(String[] args, int index, T argcFallback, EnumLookup.KeyIndex<T> keys) throws CommandException {
+    if (index >= args.length) {
+      if (argcFallback != null)
+        return argcFallback;
+      throw new CommandException(buildUsage(index));
+    }
+
+    EnumLookup<T> lookup = keys.getLookup();
+    T constant = keys.find(args[index]);
+
+    // Could not find any matching constants
+    if (constant == null)
+      throw new InvalidEnumException(getSect(), args[index], lookup.getOptions(), gradientGenerator);
+
+    return constant;
   }
 
   /**
@@ -675,8 +1347,10 @@ public abstract class ACommand extends Command {
       throw new CommandException(buildUsage(index));
     }
 
+    EnumLookup<T> lookup = EnumLookup.of(enumClass);
+
     // Find the enum constant by it's name
-    for (T constant : enumClass.getEnumConstants()) {
+    for (T constant : lookup.getConstants()) {
       // Invoke the parser
       boolean isMatch = equalityChecker.apply(args[index], constant);
       if (isMatch)
@@ -684,7 +1358,7 @@ public abstract class ACommand extends Command {
     }
 
     // Could not find any matching constants
-    throw new InvalidEnumException(sect, args[index], enumClass.getEnumConstants(), gradientGenerator);
+    throw new InvalidEnumException(getSect(), args[index], lookup.getOptions(), gradientGenerator);
   }
 
   /////////////////////////// Parsing: Argument spans /////////////////////////////
@@ -773,13 +1447,50 @@ public abstract class ACommand extends Command {
   //                             Public Utilities                            //
   //=========================================================================//
 
+  /**
+   * Reload everything this command reads from the config off the main thread,
+   * which is published as a whole once it's ready, where in-flight calls keep
+   * using the previous state. Call {@link CommandConfigCache#invalidate} or use
+   * {@link #reloadAll} to also parse the config's sections again. The descriptions
+   * visible to Bukkit are applied on the main thread right after publishing.
+   * @return Future which completes once the new state has been published
+   */
+  public CompletableFuture<Void> reload() {
+    return CompletableFuture.runAsync(() -> {
+      CommandSnapshot snap = renderUsages(buildSnapshot(cfg, getName(), cmdArgs));
+      snapshot.set(snap);
+
+      // Messages may have changed, so no payload serialized before may be sent anymore
+      ChatPayloadCache.invalidate();
+
+      // The help map and other plugins read these on the main thread
+      runSync(() -> applyDescriptions(snap, cmdArgs));
+    }, AsyncExecution.get());
+  }
+
+  /**
+   * Unregister this command from the registry and the server's command map,
+   * which has to happen on the main thread
+   * @return True if the command has been registered, false otherwise
+   */
+  public boolean unregisterCommand() {
+    return CommandRegistry.unregister(this);
+  }
+
+  /**
+   * Get the current snapshot of everything this command reads from the config
+   */
+  public CommandSnapshot getSnapshot() {
+    return snapshot.get();
+  }
+
   /**
    * Get an argument's description by it's argument id (zero based index)
    * @param argId Argument id
    * @return Description value
    */
   public String getArgumentDescripton(int argId) {
-    return cmdArgs[Math.min(argId, cmdArgs.length - 1)].getDescription();
+    return snapshot.get().getArgumentDescription(argId);
   }
 
   /**
@@ -789,6 +1500,17 @@ public abstract class ACommand extends Command {
    * @return Colorized usage string
    */
   public String colorizeUsageString(String vanilla, boolean focus) {
+    return colorizeUsageString(getSect(), vanilla, focus);
+  }
+
+  /**
+   * Colorize the usage string based on the colors specified inside a section
+   * @param sect Section to read the colors from
+   * @param vanilla Vanilla usage string
+   * @param focus Whether or not to use the focus color on arguments
+   * @return Colorized usage string
+   */
+  private static String colorizeUsageString(CommandHandlerSection sect, String vanilla, boolean focus) {
     // Start out by coloring other
     StringBuilder colorized = new StringBuilder(sect.getUsageColorOther());
 
@@ -841,28 +1563,147 @@ public abstract class ACommand extends Command {
    * @return Parsed description section, cached internally
    */
   private static CommandDescriptionSection getDescriptionSection(IConfig cfg, String name) {
-    return cfg.reader("config")
-      .flatMap(r -> r.parseValue("commands." + name, CommandDescriptionSection.class, true))
-      .orElseThrow();
+    return CommandConfigCache.getDescriptionSection(cfg, name);
   }
 
   /**
-   * Get a command by it's command name string
-   * @param command Command name string, casing will be ignored
+   * Build a new snapshot of everything a command reads from the config
+   * @param cfg Config ref
+   * @param name Command's name
+   * @param cmdArgs Arguments of the command
+   * @return Snapshot without rendered usages
    */
-  public static Optional<ACommand> getByCommand(String command) {
-    for (Map.Entry<String, ACommand> entry : registeredCommands.entrySet()) {
-      if (entry.getKey().equalsIgnoreCase(command))
-        return Optional.of(entry.getValue());
+  private static CommandSnapshot buildSnapshot(IConfig cfg, String name, CommandArgument[] cmdArgs) {
+    CommandDescriptionSection descSect = getDescriptionSection(cfg, name);
+    Map<String, ConfigValue> argDescs = descSect.getArgs();
+
+    List<String> argDescriptions = new ArrayList<>(cmdArgs.length);
+    for (CommandArgument arg : cmdArgs) {
+      ConfigValue argDesc = argDescs.get(arg.getNormalizedName());
+      argDescriptions.add(argDesc == null ? "" : argDesc.asScalar());
     }
 
-    return Optional.empty();
+    return new CommandSnapshot(
+      CommandConfigCache.getHandlerSection(cfg),
+      descSect.getDescription().asScalar(),
+      argDescriptions, null, null
+    );
+  }
+
+  /**
+   * Reload all commands which have been created from a config, after
+   * dropping all of it's cached sections
+   * @param cfg Config which has been reloaded
+   * @return Future which completes once all commands published their new state
+   */
+  public static CompletableFuture<Void> reloadAll(IConfig cfg) {
+    CommandConfigCache.invalidate(cfg);
+
+    return CompletableFuture.allOf(
+      getCommands().stream()
+        .filter(command -> command.cfg == cfg)
+        .map(ACommand::reload)
+        .toArray(CompletableFuture[]::new)
+    );
+  }
+
+  /**
+   * Collect the distinct permissions of all arguments up to each possible number
+   * of typed arguments, where the last argument covers all remaining ones
+   * @param cmdArgs Arguments of the command
+   * @return Distinct permissions, indexed by the number of typed arguments
+   */
+  private static String[][] buildArgPermissions(CommandArgument[] cmdArgs) {
+    String[][] result = new String[cmdArgs.length + 1][];
+    Set<String> distinct = new LinkedHashSet<>();
+
+    result[0] = new String[0];
+    for (int i = 0; i < cmdArgs.length; i++) {
+      if (cmdArgs[i].getPermission() != null)
+        distinct.add(cmdArgs[i].getPermission());
+      result[i + 1] = distinct.toArray(new String[0]);
+    }
+
+    return result;
+  }
+
+  /**
+   * Collect the UUIDs of players into a hash set, for constant time exclusion checks
+   * @param players Players to collect
+   * @return Set of UUIDs, null if there are no players
+   */
+  private static @Nullable Set<UUID> toIds(List<Player> players) {
+    if (players.isEmpty())
+      return null;
+
+    Set<UUID> ids = new HashSet<>(players.size() * 2);
+    for (Player p : players)
+      ids.add(p.getUniqueId());
+
+    return ids;
+  }
+
+  /**
+   * Get a command by it's name or one of it's aliases
+   * @param command Command name or alias, casing will be ignored
+   */
+  public static Optional<ACommand> getByCommand(String command) {
+    return Optional.ofNullable(CommandRegistry.getByLabel(command));
   }
 
   /**
    * Get all registered commands
    */
   public static Collection<ACommand> getCommands() {
-    return registeredCommands.values();
+    return CommandRegistry.getCommands();
+  }
+
+  /**
+   * Get the shared cache of permission decisions, which is looked up on every
+   * call, as it's replaced once the plugin it's bound to has been disabled
+   */
+  public PermissionCache getPermissionCache() {
+    return PermissionCache.getInstance(plugin);
+  }
+
+  /**
+   * Create the shared resources which track players, if they don't exist yet,
+   * binding them to a plugin, so that they don't miss any joins
+   * @param plugin Plugin to bind new resources to
+   */
+  static void bindSharedResources(JavaPlugin plugin) {
+    OnlinePlayerIndex.getInstance(plugin);
+    PlayerNameStore.getInstance(plugin);
+    OfflinePlayerNameIndex.getInstance(plugin);
+  }
+
+  /**
+   * Shut down the executor of asynchronous invocations and reloads, where
+   * pending tasks still run, and a new executor is created on next use
+   */
+  static void shutdownExecutor() {
+    AsyncExecution.shutdown();
+  }
+
+  /**
+   * Holds the executor of asynchronous invocations, which is only created on first use
+   */
+  private static class AsyncExecution {
+
+    private static ExecutorService executor;
+
+    static synchronized ExecutorService get() {
+      if (executor == null)
+        executor = CommandExecutorFactory.create();
+      return executor;
+    }
+
+    static synchronized void shutdown() {
+      if (executor == null)
+        return;
+
+      executor.shutdown();
+      executor = null;
+    }
   }
 }
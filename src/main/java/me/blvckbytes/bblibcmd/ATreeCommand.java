@@ -0,0 +1,235 @@
+package me.blvckbytes.bblibcmd;
+
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import me.blvckbytes.bblibconfig.IConfig;
+import me.blvckbytes.bblibutil.component.IComponent;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Represents the base of commands which route their invocations and completions
+  through a tree of literal and argument nodes, instead of branching on the
+  arguments by hand. Both walk the tree once, from the root towards the leaf.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public abstract class ATreeCommand extends ACommand {
+
+  // Root of the command tree, built on first use
+  private volatile CommandNode root;
+
+  /**
+   * @param plugin Plugin ref
+   * @param cfg Config ref
+   * @param name Name of the command
+   * @param rootPerm Top level permission, may be null if none
+   * @param cmdArgs Flat list of arguments, only used for the plain usage-string, may be empty
+   */
+  public ATreeCommand(
+    JavaPlugin plugin,
+    IConfig cfg,
+    String name,
+    @Nullable String rootPerm,
+    CommandArgument... cmdArgs
+  ) {
+    super(plugin, cfg, name, rootPerm, cmdArgs);
+  }
+
+  //=========================================================================//
+  //                              Overrideables                              //
+  //=========================================================================//
+
+  /**
+   * Build the command's tree, which is called once, on first use
+   * @param root Root node, which stands for the command itself
+   */
+  protected abstract void buildTree(CommandNode root);
+
+  //=========================================================================//
+  //                                 Command                                 //
+  //=========================================================================//
+
+  @Override
+  protected void invoke(CommandSender cs, String label, String[] args) throws CommandException {
+    Player p = cs instanceof Player ? (Player) cs : null;
+    Object[] values = new Object[args.length];
+    List<String> path = new ArrayList<>();
+    CommandNode node = getRoot();
+
+    for (int i = 0; i < args.length; i++) {
+      CommandNode next = node.child(args[i]);
+
+      // The command line doesn't lead anywhere
+      if (next == null)
+        throw new CommandException(buildNodeUsage(path, node));
+
+      if (p != null && next.getPermission() != null)
+        ensurePermission(p, next.getPermission());
+
+      node = next;
+      path.add(node.getName());
+      ArgumentType<?> type = node.getType();
+
+      // Literals and untyped arguments keep their raw word
+      if (type == null) {
+        values[i] = args[i];
+        continue;
+      }
+
+      values[i] = type.parse(this, args, i);
+
+      // Greedy arguments consume all remaining words
+      if (type.isGreedy())
+        break;
+    }
+
+    // The command line ends at a node that can't be executed
+    if (node.getExecutor() == null)
+      throw new CommandException(buildNodeUsage(path, node));
+
+    node.getExecutor().execute(cs, label, new ArgumentContext(args, values));
+  }
+
+  @Override
+  protected final Stream<String> onTabCompletion(CommandSender cs, String[] args, int currArg) {
+    // Completions are provided by the tree's nodes, which add to a collector
+    SuggestionCollector collector = createCollector(args);
+    onTabCompletion(cs, args, currArg, collector);
+    return collector.toList().stream();
+  }
+
+  @Override
+  protected void onTabCompletion(CommandSender cs, String[] args, int currArg, SuggestionCollector collector) {
+    Player p = cs instanceof Player ? (Player) cs : null;
+    CommandNode node = getRoot();
+
+    // Walk all completed words, without parsing any values
+    for (int i = 0; i < currArg; i++) {
+      if (node.getType() != null && node.getType().isGreedy())
+        break;
+
+      node = node.child(args[i]);
+
+      if (node == null || !isPermitted(p, node))
+        return;
+    }
+
+    // Greedy arguments keep completing themselves
+    if (node.getType() != null && node.getType().isGreedy()) {
+      if (node.getCompletionProvider() != null)
+        node.getCompletionProvider().suggest(cs, args, currArg, collector);
+      return;
+    }
+
+    SuggestionMatcher matcher = collector.getMatcher();
+    for (String literal : node.getLiteralNames()) {
+      if (!matcher.startsWith(literal))
+        continue;
+
+      // Literals are few and unordered, an exact match may still follow
+      CommandNode child = node.getLiteral(literal);
+      if (child != null && isPermitted(p, child))
+        collector.add(literal);
+    }
+
+    CommandNode argument = node.getArgument();
+    if (argument != null && argument.getCompletionProvider() != null && isPermitted(p, argument))
+      argument.getCompletionProvider().suggest(cs, args, currArg, collector);
+  }
+
+  @Override
+  boolean hasCompletions() {
+    return true;
+  }
+
+  @Override
+  boolean isArgumentPermitted(Player p, int currArg) {
+    // Permissions are attached to the nodes, which are checked while walking
+    return true;
+  }
+
+  @Override
+  void ensureArgumentPermissions(Player p, String[] args) {
+    // Permissions are attached to the nodes, which are checked while walking
+  }
+
+  @Override
+  @Nullable ArgumentContext parseArguments(String[] args) {
+    // Values are parsed while walking, as their types depend on the path
+    return null;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Build the usage of a path which ended early, focusing all ways to continue it
+   * @param path Names of all nodes that have been walked
+   * @param node Last node that has been walked
+   */
+  private IComponent buildNodeUsage(List<String> path, CommandNode node) {
+    List<String> options = new ArrayList<>(node.getLiteralNames());
+
+    if (node.getArgument() != null)
+      options.add(node.getArgument().getName().replaceAll("[<>\\[\\]]", ""));
+
+    // Dead end, there's nothing to focus
+    if (options.isEmpty())
+      return renderPathUsage(path, null);
+
+    List<String> words = new ArrayList<>(path);
+    words.add("<" + String.join("|", options) + ">");
+
+    return renderPathUsage(words, path.size());
+  }
+
+  /**
+   * Get the root of the tree, building it if it doesn't exist yet
+   */
+  private CommandNode getRoot() {
+    CommandNode root = this.root;
+
+    if (root == null) {
+      synchronized (this) {
+        root = this.root;
+        if (root == null) {
+          root = CommandNode.root();
+          buildTree(root);
+          this.root = root;
+        }
+      }
+    }
+
+    return root;
+  }
+
+  /**
+   * Check whether a player may enter a node, where the console may enter all nodes
+   * @param p Player to check, null for the console
+   * @param node Node to check
+   */
+  private boolean isPermitted(@Nullable Player p, CommandNode node) {
+    return p == null || node.getPermission() == null || getPermissionCache().hasPermission(p, node.getPermission());
+  }
+}
@@ -0,0 +1,114 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Holds the typed values of all arguments of a single command invocation,
+  as parsed by the command's argument plan. Values of optional arguments
+  which have not been provided are null.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ArgumentContext {
+
+  private final String[] args;
+  private final Object[] values;
+
+  public ArgumentContext(String[] args, Object[] values) {
+    this.args = args;
+    this.values = values;
+  }
+
+  /**
+   * Get the raw arguments the command has been invoked with
+   */
+  public String[] getArgs() {
+    return args;
+  }
+
+  /**
+   * Check whether an argument has a value
+   * @param index Index of the argument
+   */
+  public boolean has(int index) {
+    return index < values.length && values[index] != null;
+  }
+
+  /**
+   * Get the value of an argument
+   * @param index Index of the argument
+   * @param type Type of the value
+   * @return Value, null if it has not been provided
+   */
+  @Nullable
+  public <T> T get(int index, Class<T> type) {
+    return index < values.length ? type.cast(values[index]) : null;
+  }
+
+  /**
+   * Get the value of an argument or a fallback
+   * @param index Index of the argument
+   * @param type Type of the value
+   * @param fallback Fallback to use if the argument has not been provided
+   * @return Value or fallback
+   */
+  public <T> T get(int index, Class<T> type, T fallback) {
+    T value = get(index, type);
+    return value == null ? fallback : value;
+  }
+
+  public @Nullable Integer getInt(int index) {
+    return get(index, Integer.class);
+  }
+
+  public int getInt(int index, int fallback) {
+    return get(index, Integer.class, fallback);
+  }
+
+  public @Nullable Float getFloat(int index) {
+    return get(index, Float.class);
+  }
+
+  public float getFloat(int index, float fallback) {
+    return get(index, Float.class, fallback);
+  }
+
+  public @Nullable String getString(int index) {
+    return get(index, String.class);
+  }
+
+  public @Nullable UUID getUUID(int index) {
+    return get(index, UUID.class);
+  }
+
+  public @Nullable Player getPlayer(int index) {
+    return get(index, Player.class);
+  }
+
+  public @Nullable OfflinePlayer getOfflinePlayer(int index) {
+    return get(index, OfflinePlayer.class);
+  }
+
+  @Nullable
+  public <E extends Enum<E>> E getEnum(int index, Class<E> enumClass) {
+    return get(index, enumClass);
+  }
+}
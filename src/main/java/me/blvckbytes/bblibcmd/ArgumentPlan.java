@@ -0,0 +1,113 @@
+package me.blvckbytes.bblibcmd;
+
+import me.blvckbytes.bblibcmd.exception.ArgumentErrorsException;
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A parser plan, compiled from the declared types of a command's arguments,
+  which parses a whole command line in one pass. Instead of stopping at the
+  first error, all malformed arguments are reported at once, while a missing
+  mandatory argument reports the usage focused on that argument.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ArgumentPlan {
+
+  private final ArgumentType<?>[] types;
+  private final boolean[] optional;
+
+  private ArgumentPlan(ArgumentType<?>[] types, boolean[] optional) {
+    this.types = types;
+    this.optional = optional;
+  }
+
+  /**
+   * Compile the plan for a list of arguments
+   * @param cmdArgs Arguments of the command
+   * @return Compiled plan, null if none of the arguments declared a type
+   */
+  public static @Nullable ArgumentPlan compile(CommandArgument[] cmdArgs) {
+    ArgumentType<?>[] types = new ArgumentType<?>[cmdArgs.length];
+    boolean[] optional = new boolean[cmdArgs.length];
+    boolean typed = false;
+
+    for (int i = 0; i < cmdArgs.length; i++) {
+      types[i] = cmdArgs[i].getType();
+      optional[i] = cmdArgs[i].isOptional();
+
+      if (types[i] == null)
+        continue;
+
+      typed = true;
+
+      if (types[i].isGreedy() && i != cmdArgs.length - 1)
+        throw new IllegalArgumentException("Greedy argument " + cmdArgs[i].getName() + " has to be the last argument");
+    }
+
+    return typed ? new ArgumentPlan(types, optional) : null;
+  }
+
+  /**
+   * Parse all arguments of a command line
+   * @param command Command to parse for
+   * @param args Arguments of the command
+   * @return Context holding all parsed values
+   * @throws CommandException A single error or all errors which occurred
+   */
+  public ArgumentContext parse(ACommand command, String[] args) throws CommandException {
+    Object[] values = new Object[types.length];
+    List<CommandException> errors = null;
+
+    for (int i = 0; i < types.length; i++) {
+      // Missing arguments, all further arguments are missing as well
+      if (i >= args.length) {
+        if (!optional[i]) {
+          if (errors == null)
+            errors = new ArrayList<>(1);
+          errors.add(new CommandException(command.buildUsage(i)));
+        }
+        break;
+      }
+
+      // Untyped arguments are kept as-is
+      if (types[i] == null) {
+        values[i] = args[i];
+        continue;
+      }
+
+      try {
+        values[i] = types[i].parse(command, args, i);
+      } catch (CommandException e) {
+        if (errors == null)
+          errors = new ArrayList<>(1);
+        errors.add(e);
+      }
+    }
+
+    if (errors == null)
+      return new ArgumentContext(args, values);
+
+    if (errors.size() == 1)
+      throw errors.get(0);
+
+    throw new ArgumentErrorsException(errors);
+  }
+}
@@ -0,0 +1,99 @@
+package me.blvckbytes.bblibcmd;
+
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Declares the type of a command argument, which knows how to parse
+  the argument's value by using the command's parsing helpers.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ArgumentType<T> {
+
+  public static final ArgumentType<Integer> INTEGER = new ArgumentType<>(Integer.class, false, ACommand::parseInt);
+  public static final ArgumentType<Float> FLOAT = new ArgumentType<>(Float.class, false, ACommand::parseFloat);
+  public static final ArgumentType<Integer> DURATION = new ArgumentType<>(Integer.class, false, (cmd, args, index) -> cmd.parseDuration(args, index, null));
+  public static final ArgumentType<UUID> UUID = new ArgumentType<>(java.util.UUID.class, false, ACommand::parseUUID);
+  public static final ArgumentType<Player> ONLINE_PLAYER = new ArgumentType<>(Player.class, false, ACommand::onlinePlayer);
+  public static final ArgumentType<OfflinePlayer> OFFLINE_PLAYER = new ArgumentType<>(OfflinePlayer.class, false, ACommand::offlinePlayer);
+  public static final ArgumentType<String> WORD = new ArgumentType<>(String.class, false, ACommand::argval);
+  public static final ArgumentType<String> GREEDY_STRING = new ArgumentType<>(String.class, true, ACommand::argvar);
+
+  private final Class<T> valueType;
+  private final boolean greedy;
+  private final Parser<T> parser;
+
+  private ArgumentType(Class<T> valueType, boolean greedy, Parser<T> parser) {
+    this.valueType = valueType;
+    this.greedy = greedy;
+    this.parser = parser;
+  }
+
+  /**
+   * Create an integer type which only accepts values within a range
+   * @param min Minimum value, inclusive
+   * @param max Maximum value, inclusive
+   */
+  public static ArgumentType<Integer> integer(int min, int max) {
+    return new ArgumentType<>(Integer.class, false, (cmd, args, index) -> cmd.parseInt(args, index, min, max));
+  }
+
+  /**
+   * Create an enum type, which accepts the constant's names while ignoring casing
+   * @param enumClass Class of the target enum
+   */
+  public static <E extends Enum<E>> ArgumentType<E> enumeration(Class<E> enumClass) {
+    return new ArgumentType<>(enumClass, false, (cmd, args, index) -> cmd.parseEnum(enumClass, args, index, null));
+  }
+
+  /**
+   * Parse the value of this type at an index
+   * @param command Command to parse for
+   * @param args Arguments of the command
+   * @param index Index within the arguments to use
+   * @return Parsed value
+   */
+  public T parse(ACommand command, String[] args, int index) throws CommandException {
+    return parser.parse(command, args, index);
+  }
+
+  /**
+   * Get the type of the parsed values
+   */
+  public Class<T> getValueType() {
+    return valueType;
+  }
+
+  /**
+   * Whether this type consumes all remaining arguments
+   */
+  public boolean isGreedy() {
+    return greedy;
+  }
+
+  /**
+   * Parses an argument's value through a command's helpers
+   */
+  @FunctionalInterface
+  private interface Parser<T> {
+    T parse(ACommand command, String[] args, int index) throws CommandException;
+  }
+}
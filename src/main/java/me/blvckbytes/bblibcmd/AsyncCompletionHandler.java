@@ -0,0 +1,240 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Computes tab completions of commands which opted into asynchronous
+  completion right on the thread of Paper's asynchronous tab complete
+  event, which is off the main thread already. The event can't hand back
+  results later, so instead of waiting on another thread, every request
+  is bound by the command's deadline, at which a timer cancels it's
+  collector and all results computed so far are returned. A newer request
+  of the same player cancels the previous one, whose results are dropped.
+
+  The deadline is cooperative: cancelling a collector only makes it reject
+  further suggestions, it doesn't interrupt the command. A command which
+  computes for long without adding suggestions or checking whether the
+  collector has been cancelled keeps the event's thread busy past it.
+
+  On servers without that event, nothing is registered and completions
+  keep being computed synchronously by the command itself.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class AsyncCompletionHandler implements Listener {
+
+  private static final String PAPER_EVENT = "com.destroystokyo.paper.event.server.AsyncTabCompleteEvent";
+
+  private static AsyncCompletionHandler instance;
+  private static boolean unavailable;
+
+  private final JavaPlugin plugin;
+
+  // Cancels the collectors of requests which exceeded their deadline
+  private final ScheduledThreadPoolExecutor deadlines;
+
+  // Currently running request's collector per player
+  private final Map<UUID, SuggestionCollector> inFlight;
+
+  private final MethodHandle getBuffer, getSender, isCommand, isHandled, setHandled, setCompletions;
+
+  private AsyncCompletionHandler(JavaPlugin plugin, Class<?> eventClass) throws ReflectiveOperationException {
+    this.plugin = plugin;
+    this.inFlight = new ConcurrentHashMap<>();
+
+    this.deadlines = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread t = new Thread(r, "bblibcmd-completion-deadline");
+      t.setDaemon(true);
+      return t;
+    });
+
+    // Most requests finish way ahead of their deadline
+    this.deadlines.setRemoveOnCancelPolicy(true);
+
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    this.getBuffer = lookup.findVirtual(eventClass, "getBuffer", MethodType.methodType(String.class));
+    this.getSender = lookup.findVirtual(eventClass, "getSender", MethodType.methodType(CommandSender.class));
+    this.isCommand = lookup.findVirtual(eventClass, "isCommand", MethodType.methodType(boolean.class));
+    this.isHandled = lookup.findVirtual(eventClass, "isHandled", MethodType.methodType(boolean.class));
+    this.setHandled = lookup.findVirtual(eventClass, "setHandled", MethodType.methodType(void.class, boolean.class));
+    this.setCompletions = lookup.findVirtual(eventClass, "setCompletions", MethodType.methodType(void.class, List.class));
+  }
+
+  /**
+   * Register the shared handler, if the server supports asynchronous tab completion
+   * @param plugin Plugin to register the event listener with
+   * @return True if the handler is active, false if completions have to stay synchronous
+   */
+  public static synchronized boolean register(JavaPlugin plugin) {
+    if (instance != null)
+      return true;
+
+    if (unavailable)
+      return false;
+
+    try {
+      Class<? extends Event> eventClass = Class.forName(PAPER_EVENT).asSubclass(Event.class);
+      AsyncCompletionHandler handler = new AsyncCompletionHandler(plugin, eventClass);
+
+      Bukkit.getPluginManager().registerEvent(
+        eventClass, handler, EventPriority.NORMAL,
+        (listener, event) -> handler.onAsyncTabComplete(event),
+        plugin, true
+      );
+
+      Bukkit.getPluginManager().registerEvents(handler, plugin);
+
+      instance = handler;
+      return true;
+    } catch (ClassNotFoundException e) {
+      unavailable = true;
+      return false;
+    } catch (ReflectiveOperationException e) {
+      unavailable = true;
+      plugin.getLogger().log(Level.WARNING, "Could not hook into asynchronous tab completion", e);
+      return false;
+    }
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  /**
+   * Handles an AsyncTabCompleteEvent, which is only accessed reflectively
+   * @param event Event instance
+   */
+  private void onAsyncTabComplete(Event event) {
+    try {
+      if (!(boolean) isCommand.invoke(event) || (boolean) isHandled.invoke(event))
+        return;
+
+      String buffer = (String) getBuffer.invoke(event);
+      if (buffer.startsWith("/"))
+        buffer = buffer.substring(1);
+
+      // Still typing out the command's label, nothing to do here
+      int labelEnd = buffer.indexOf(' ');
+      if (labelEnd < 0)
+        return;
+
+      // Strip the namespace of namespaced labels, like plugin:command
+      String label = buffer.substring(0, labelEnd);
+      label = label.substring(label.indexOf(':') + 1);
+
+      ACommand command = ACommand.getByCommand(label).orElse(null);
+      if (command == null || !command.isCompletionAsync())
+        return;
+
+      CommandSender sender = (CommandSender) getSender.invoke(event);
+      String[] args = buffer.substring(labelEnd + 1).split(" ", -1);
+
+      setCompletions.invoke(event, complete(command, sender, args));
+      setHandled.invoke(event, true);
+    } catch (Throwable t) {
+      plugin.getLogger().log(Level.SEVERE, "Could not complete asynchronously", t);
+    }
+  }
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    synchronized (AsyncCompletionHandler.class) {
+      deadlines.shutdownNow();
+
+      if (instance == this)
+        instance = null;
+    }
+
+    // Hand over to another plugin which still has asynchronously completed commands
+    for (ACommand command : CommandRegistry.getCommands()) {
+      if (command.getPlugin() != plugin && command.getPlugin().isEnabled() && command.isCompletionAsync()) {
+        register(command.getPlugin());
+        break;
+      }
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Compute the completions of a command on the calling thread, where the collector
+   * is cancelled once the command's deadline has been exceeded or once a newer
+   * request of the same player came in
+   * @param command Command to complete
+   * @param sender Sender which requested the completion
+   * @param args Arguments typed out so far
+   * @return List of completions, partial if the deadline has been exceeded, empty if superseded
+   */
+  private List<String> complete(ACommand command, CommandSender sender, String[] args) {
+    SuggestionCollector collector = command.createCollector(args);
+    UUID key = sender instanceof Player ? ((Player) sender).getUniqueId() : null;
+
+    // Drop the previous, now stale request of this player
+    if (key != null) {
+      SuggestionCollector previous = inFlight.put(key, collector);
+      if (previous != null)
+        previous.cancel();
+    }
+
+    ScheduledFuture<?> deadline;
+
+    try {
+      deadline = deadlines.schedule(collector::cancel, command.getCompletionDeadline(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // Shutting down, complete without a deadline
+      deadline = null;
+    }
+
+    boolean superseded = false;
+
+    try {
+      command.complete(sender, args, collector);
+    } finally {
+      if (deadline != null)
+        deadline.cancel(false);
+
+      if (key != null)
+        superseded = !inFlight.remove(key, collector);
+    }
+
+    // Superseded while completing, the client only cares about the newer request
+    if (superseded)
+      return List.of();
+
+    return collector.toList();
+  }
+}
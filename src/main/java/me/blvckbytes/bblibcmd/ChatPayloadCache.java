@@ -0,0 +1,319 @@
+package me.blvckbytes.bblibcmd;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import me.blvckbytes.bblibutil.component.IComponent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Caches the serialized chat packets of recurring messages, like shared errors
+  and rendered usages, keyed by the component's identity and the config revision.
+  A component is serialized to JSON and encoded into a packet once, after which
+  every send only writes a copy-free view on the cached bytes into the player's
+  channel, below the packet encoder.
+
+  Components are held weakly, and every reload bumps the config revision, which
+  renders all payloads serialized before that stale. The server's packet classes
+  are resolved reflectively on first use. If anything can't be resolved, the
+  cache disables itself and messages are sent through the packet communicator.
+  Packets sent from here are not seen by packet listeners which hook the encoder.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class ChatPayloadCache {
+
+  // Placeholder for component classes which have no JSON representation
+  private static final MethodHandle NO_JSON = MethodHandles.constant(Object.class, null);
+
+  // Serialized packets by component, including the revision they were serialized in
+  private static final Map<IComponent, Payload> payloads = Collections.synchronizedMap(new WeakHashMap<>());
+
+  // Bumped whenever the config has been reloaded
+  private static final AtomicLong revision = new AtomicLong();
+
+  private static volatile @Nullable ChatPayloadCache instance;
+  private static volatile boolean unavailable;
+
+  // Whether the server predates hex colors, so components have to approximate them
+  private final boolean approximateColors;
+
+  // ChatSerializer#a(String): IChatBaseComponent
+  private final MethodHandle deserialize;
+
+  // new PacketPlayOutChat(IChatBaseComponent, ChatMessageType): PacketPlayOutChat
+  private final MethodHandle newPacket;
+
+  // The chat message type of regular chat messages
+  private final Object chatType;
+
+  // new PacketDataSerializer(ByteBuf): PacketDataSerializer
+  private final MethodHandle newSerializer;
+
+  // PacketPlayOutChat#b(PacketDataSerializer): void
+  private final MethodHandle writePacket;
+
+  // Id of the chat packet within the play protocol
+  private final int packetId;
+
+  // CraftPlayer#getHandle, EntityPlayer#playerConnection, PlayerConnection#networkManager, NetworkManager#channel
+  private final Method getHandle;
+  private final MethodHandle playerConnection, networkManager, channel;
+
+  // IComponent#toJson(boolean) per component class, as it's not part of the compiled API
+  private final Map<Class<?>, MethodHandle> toJson;
+
+  private ChatPayloadCache() throws ReflectiveOperationException {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    String craftPackage = Bukkit.getServer().getClass().getPackage().getName();
+    String nmsPackage = "net.minecraft.server." + craftPackage.substring(craftPackage.lastIndexOf('.') + 1);
+
+    Class<?> chatComponentC = Class.forName(nmsPackage + ".IChatBaseComponent");
+    Class<?> chatSerializerC = Class.forName(nmsPackage + ".IChatBaseComponent$ChatSerializer");
+    Class<?> chatTypeC = Class.forName(nmsPackage + ".ChatMessageType");
+    Class<?> packetC = Class.forName(nmsPackage + ".Packet");
+    Class<?> chatPacketC = Class.forName(nmsPackage + ".PacketPlayOutChat");
+    Class<?> serializerC = Class.forName(nmsPackage + ".PacketDataSerializer");
+    Class<?> protocolC = Class.forName(nmsPackage + ".EnumProtocol");
+    Class<?> directionC = Class.forName(nmsPackage + ".EnumProtocolDirection");
+
+    this.approximateColors = !hasHexColors();
+    this.deserialize = lookup.findStatic(chatSerializerC, "a", MethodType.methodType(chatComponentC, String.class));
+    this.newPacket = lookup.unreflectConstructor(chatPacketC.getConstructor(chatComponentC, chatTypeC));
+    this.chatType = enumConstant(chatTypeC, "CHAT");
+
+    Constructor<?> serializerCtor = serializerC.getConstructor(ByteBuf.class);
+    this.newSerializer = lookup.unreflectConstructor(serializerCtor);
+    this.writePacket = lookup.unreflect(chatPacketC.getMethod("b", serializerC));
+
+    // The id is looked up by the packet's class, so any instance will do
+    Object samplePacket = newPacket.invoke(deserialize.invoke("{\"text\":\"\"}"), chatType);
+    Method idM = protocolC.getMethod("a", directionC, packetC);
+    Object id = idM.invoke(enumConstant(protocolC, "PLAY"), enumConstant(directionC, "CLIENTBOUND"), samplePacket);
+
+    if (!(id instanceof Integer))
+      throw new NoSuchMethodException("Could not resolve the id of " + chatPacketC.getName());
+
+    this.packetId = (int) id;
+
+    Class<?> craftPlayerC = Class.forName(craftPackage + ".entity.CraftPlayer");
+    Class<?> entityPlayerC = Class.forName(nmsPackage + ".EntityPlayer");
+    Class<?> playerConnectionC = Class.forName(nmsPackage + ".PlayerConnection");
+    Class<?> networkManagerC = Class.forName(nmsPackage + ".NetworkManager");
+
+    this.getHandle = craftPlayerC.getMethod("getHandle");
+    this.playerConnection = lookup.unreflectGetter(entityPlayerC.getField("playerConnection"));
+    this.networkManager = lookup.unreflectGetter(playerConnectionC.getField("networkManager"));
+    this.channel = lookup.unreflectGetter(networkManagerC.getField("channel"));
+
+    this.toJson = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Send a recurring component to a player, serializing it only if it
+   * hasn't been serialized within the current config revision yet
+   * @param p Receiving player
+   * @param component Component to send, which has to be immutable
+   * @return True if it has been sent, false if it has to be sent through the communicator
+   */
+  static boolean send(Player p, IComponent component) {
+    ChatPayloadCache cache = getInstance();
+
+    if (cache == null)
+      return false;
+
+    try {
+      long currentRevision = revision.get();
+      Payload payload = payloads.get(component);
+
+      if (payload == null || payload.revision != currentRevision) {
+        byte[] bytes = cache.serialize(component);
+
+        if (bytes == null)
+          return false;
+
+        payload = new Payload(currentRevision, bytes);
+        payloads.put(component, payload);
+      }
+
+      Channel target = cache.channelOf(p);
+      if (target == null || !target.isActive())
+        return false;
+
+      target.writeAndFlush(Unpooled.wrappedBuffer(payload.bytes));
+      return true;
+    } catch (Throwable t) {
+      Bukkit.getLogger().log(Level.WARNING, "Could not send a cached chat payload, disabling the cache", t);
+      unavailable = true;
+      return false;
+    }
+  }
+
+  /**
+   * Render all payloads serialized so far stale, which has to be called whenever the config is reloaded
+   */
+  static void invalidate() {
+    revision.incrementAndGet();
+    payloads.clear();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Get the shared cache, which resolves the server's packet classes on the first call
+   * @return Shared cache, null if the server's packet classes couldn't be resolved
+   */
+  private static @Nullable ChatPayloadCache getInstance() {
+    if (unavailable)
+      return null;
+
+    ChatPayloadCache result = instance;
+    if (result != null)
+      return result;
+
+    synchronized (ChatPayloadCache.class) {
+      if (instance == null && !unavailable) {
+        try {
+          instance = new ChatPayloadCache();
+        } catch (Throwable t) {
+          unavailable = true;
+        }
+      }
+
+      return instance;
+    }
+  }
+
+  /**
+   * Serialize a component into a chat packet, prefixed by the packet's id
+   * @param component Component to serialize
+   * @return Serialized packet, null if the component can't be serialized to JSON
+   */
+  private @Nullable byte[] serialize(IComponent component) throws Throwable {
+    MethodHandle componentToJson = toJson.computeIfAbsent(component.getClass(), ChatPayloadCache::resolveToJson);
+
+    // Marks components without a JSON representation
+    if (componentToJson == NO_JSON)
+      return null;
+
+    String json = String.valueOf(componentToJson.invoke(component, approximateColors));
+    Object packet = newPacket.invoke(deserialize.invoke(json), chatType);
+
+    ByteBuf buf = Unpooled.buffer();
+    try {
+      writeVarInt(buf, packetId);
+      writePacket.invoke(packet, newSerializer.invoke(buf));
+
+      byte[] bytes = new byte[buf.readableBytes()];
+      buf.readBytes(bytes);
+      return bytes;
+    } finally {
+      buf.release();
+    }
+  }
+
+  /**
+   * Get the network channel of a player
+   * @param p Target player
+   * @return Channel, null if the player is not connected anymore
+   */
+  private @Nullable Channel channelOf(Player p) throws Throwable {
+    Object connection = playerConnection.invoke(getHandle.invoke(p));
+    if (connection == null)
+      return null;
+
+    Object manager = networkManager.invoke(connection);
+    return manager == null ? null : (Channel) channel.invoke(manager);
+  }
+
+  /**
+   * Resolve the JSON serializer of a component class
+   * @param componentClass Class to resolve on
+   * @return Handle taking the component and whether to approximate colors, {@link #NO_JSON} if there is none
+   */
+  private static MethodHandle resolveToJson(Class<?> componentClass) {
+    try {
+      Method m = componentClass.getMethod("toJson", boolean.class);
+      return MethodHandles.lookup().unreflect(m);
+    } catch (ReflectiveOperationException e) {
+      return NO_JSON;
+    }
+  }
+
+  /**
+   * Whether the server supports hex colors, which is the case if bungee's chat colors support them
+   */
+  private static boolean hasHexColors() {
+    try {
+      net.md_5.bungee.api.ChatColor.class.getMethod("of", String.class);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Write a variable length integer, as used by the protocol
+   */
+  private static void writeVarInt(ByteBuf buf, int value) {
+    while ((value & ~0x7F) != 0) {
+      buf.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buf.writeByte(value);
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static Object enumConstant(Class<?> enumClass, String name) {
+    return Enum.valueOf((Class) enumClass, name);
+  }
+
+  /**
+   * A serialized packet and the config revision it has been serialized in
+   */
+  private static class Payload {
+
+    private final long revision;
+    private final byte[] bytes;
+
+    public Payload(long revision, byte[] bytes) {
+      this.revision = revision;
+      this.bytes = bytes;
+    }
+  }
+}
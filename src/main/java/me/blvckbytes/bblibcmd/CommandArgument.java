@@ -1,6 +1,5 @@
 package me.blvckbytes.bblibcmd;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import org.jetbrains.annotations.Nullable;
@@ -25,7 +24,6 @@ import org.jetbrains.annotations.Nullable;
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 @Getter
-@AllArgsConstructor
 public class CommandArgument {
 
   private String name;
@@ -34,6 +32,22 @@ public class CommandArgument {
   @Setter
   private String description;
 
+  // Declared type, used to parse the argument ahead of invocation
+  private @Nullable ArgumentType<?> type;
+
+  /**
+   * Create a new command argument description
+   * @param name Name of the argument which will be displayed, use [] fo
+   *            optional and <> for mandatory arguments
+   * @param permission Permission required, may be null if none
+   * @param description Description of the argument
+   */
+  public CommandArgument(String name, @Nullable String permission, String description) {
+    this.name = name;
+    this.permission = permission;
+    this.description = description;
+  }
+
   /**
    * Create a new command argument description
    * @param name Name of the argument which will be displayed, use [] fo
@@ -44,6 +58,25 @@ public class CommandArgument {
     this(name, permission, "");
   }
 
+  /**
+   * Create a new typed command argument description
+   * @param name Name of the argument which will be displayed, use [] fo
+   *            optional and <> for mandatory arguments
+   * @param permission Permission required, may be null if none
+   * @param type Type of the argument's value
+   */
+  public CommandArgument(String name, @Nullable String permission, ArgumentType<?> type) {
+    this(name, permission, "");
+    this.type = type;
+  }
+
+  /**
+   * Whether this argument is optional, as denoted by [] brackets
+   */
+  public boolean isOptional() {
+    return name.trim().startsWith("[");
+  }
+
   /**
    * Get the name of this argument with stripped requirement brackets or spaces
    */
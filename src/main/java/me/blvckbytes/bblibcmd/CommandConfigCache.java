@@ -0,0 +1,100 @@
+package me.blvckbytes.bblibcmd;
+
+import me.blvckbytes.bblibconfig.IConfig;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Caches the config sections all commands of a config share, so that the
+  handler section and every command's description section are only parsed
+  once per config, no matter how many commands are being created from it.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandConfigCache {
+
+  // Parsed sections per config, which never reference their config,
+  // so that they're released together with it
+  private static final Map<IConfig, Sections> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Get the command handler section of a config, which is absolutely mandatory
+   * @param cfg Config to read from
+   */
+  public static CommandHandlerSection getHandlerSection(IConfig cfg) {
+    Sections sections = sectionsOf(cfg);
+    CommandHandlerSection sect = sections.handlerSection;
+
+    if (sect == null) {
+      synchronized (sections) {
+        sect = sections.handlerSection;
+        if (sect == null) {
+          sect = cfg.reader("config")
+            .flatMap(r -> r.parseValue("messages", CommandHandlerSection.class, true))
+            .orElseThrow();
+          sections.handlerSection = sect;
+        }
+      }
+    }
+
+    return sect;
+  }
+
+  /**
+   * Get the description section of a command within a config
+   * @param cfg Config to read from
+   * @param name Command's name
+   */
+  public static CommandDescriptionSection getDescriptionSection(IConfig cfg, String name) {
+    return sectionsOf(cfg).descriptionSections.computeIfAbsent(name, n ->
+      cfg.reader("config")
+        .flatMap(r -> r.parseValue("commands." + n, CommandDescriptionSection.class, true))
+        .orElseThrow()
+    );
+  }
+
+  /**
+   * Drop all cached sections of a config, which causes
+   * them to be parsed again on their next request
+   * @param cfg Config to drop the sections of
+   */
+  public static void invalidate(IConfig cfg) {
+    caches.remove(cfg);
+  }
+
+  /**
+   * Get the cached sections of a config, which are created on demand
+   */
+  private static Sections sectionsOf(IConfig cfg) {
+    return caches.computeIfAbsent(cfg, k -> new Sections());
+  }
+
+  /**
+   * Parsed sections of a single config
+   */
+  private static class Sections {
+
+    // Parsed handler section, null until first requested
+    private volatile CommandHandlerSection handlerSection;
+
+    // Parsed description sections by command name
+    private final Map<String, CommandDescriptionSection> descriptionSections = new ConcurrentHashMap<>();
+  }
+}
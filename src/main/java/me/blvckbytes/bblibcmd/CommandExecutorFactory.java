@@ -0,0 +1,41 @@
+package me.blvckbytes.bblibcmd;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Creates the executor of asynchronous command invocations. This variant
+  uses a cached pool of platform threads, while the multi-release jar
+  replaces it with virtual threads on Java 21 and above.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class CommandExecutorFactory {
+
+  /**
+   * Create a new executor, which runs every task right away
+   */
+  static ExecutorService create() {
+    AtomicInteger counter = new AtomicInteger();
+    return Executors.newCachedThreadPool(r -> {
+      Thread t = new Thread(r, "bblibcmd-exec-" + counter.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    });
+  }
+}
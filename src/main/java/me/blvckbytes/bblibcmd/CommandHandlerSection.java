@@ -4,6 +4,7 @@ import lombok.Getter;
 import me.blvckbytes.bblibconfig.AConfigSection;
 import me.blvckbytes.bblibconfig.ConfigValue;
 import org.bukkit.ChatColor;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -42,6 +43,11 @@ public class CommandHandlerSection extends AConfigSection {
   private ConfigValue missingPermission;
   private ConfigValue offlineTarget;
   private ConfigValue unknownTarget;
+  private ConfigValue rateLimited;
+  private @Nullable ConfigValue didYouMean;
+  private ConfigValue statsHeader;
+  private ConfigValue statsEntry;
+  private ConfigValue statsEmpty;
 
   private String usageColorOther;
   private String usageColorBrackets;
@@ -51,6 +57,10 @@ public class CommandHandlerSection extends AConfigSection {
 
   @Override
   public Object defaultFor(Class<?> type, String field) {
+    // Hints are optional and only shown if they've been configured
+    if (field.equals("didYouMean"))
+      return null;
+
     if (type == ConfigValue.class)
       return ConfigValue.immediate("&cundefined");
 
@@ -0,0 +1,172 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Reads the statistics of all registered commands, ranks them by their
+  latency and exports them in the prometheus text exposition format.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandMetrics {
+
+  // Percentiles which are exported for every latency summary
+  private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+  /**
+   * Get the commands with the highest execution latency
+   * @param percentile Percentile to compare by, within [0;100]
+   * @param limit Maximum number of commands to return
+   * @return Commands which have been executed at least once, slowest first
+   */
+  public static List<ACommand> getSlowest(double percentile, int limit) {
+    return ACommand.getCommands().stream()
+      .filter(c -> c.getStats().getExecutions().getCount() > 0)
+      .sorted(Comparator.comparingLong((ACommand c) -> c.getStats().getExecutions().getPercentile(percentile)).reversed())
+      .limit(limit)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Write the statistics of all registered commands in the prometheus text format
+   * @param out Writer to write to
+   */
+  public static void writePrometheus(Writer out) throws IOException {
+    List<ACommand> commands = ACommand.getCommands().stream()
+      .sorted(Comparator.comparing((ACommand c) -> c.getPlugin().getName()).thenComparing(ACommand::getName))
+      .collect(Collectors.toList());
+
+    writeSummary(out, commands, "bblibcmd_execution_seconds", "Latency of command executions", false);
+    writeSummary(out, commands, "bblibcmd_completion_seconds", "Latency of command completions", true);
+
+    out.write("# HELP bblibcmd_completion_results_total Number of suggestions all completions resulted in\n");
+    out.write("# TYPE bblibcmd_completion_results_total counter\n");
+    for (ACommand command : commands)
+      out.write("bblibcmd_completion_results_total{" + labels(command) + "} " + command.getStats().getCompletionResults().sum() + "\n");
+
+    out.write("# HELP bblibcmd_errors_total Number of command exceptions by their type\n");
+    out.write("# TYPE bblibcmd_errors_total counter\n");
+    for (ACommand command : commands) {
+      for (Map.Entry<String, Long> error : command.getStats().getErrors().entrySet()) {
+        out.write(
+          "bblibcmd_errors_total{" + labels(command) +
+          ",type=\"" + escape(error.getKey()) + "\"} " + error.getValue() + "\n"
+        );
+      }
+    }
+
+    out.flush();
+  }
+
+  /**
+   * Write the statistics of all registered commands into a file, which
+   * is replaced atomically so that scrapers never read partial dumps
+   * @param file File to write to
+   */
+  public static void dumpPrometheus(File file) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs())
+      throw new IOException("Could not create directory " + parent);
+
+    File temp = new File(parent, file.getName() + ".tmp");
+
+    try (
+      Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8))
+    ) {
+      writePrometheus(out);
+    }
+
+    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Periodically dump the statistics of all registered commands into a file, off the main thread
+   * @param plugin Plugin to schedule the task for
+   * @param file File to write to
+   * @param periodTicks Period between dumps in ticks
+   * @return Scheduled task, which can be used to stop dumping
+   */
+  public static BukkitTask scheduleDump(JavaPlugin plugin, File file, long periodTicks) {
+    return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+      try {
+        dumpPrometheus(file);
+      } catch (IOException e) {
+        plugin.getLogger().warning("Could not dump command metrics to " + file + ": " + e.getMessage());
+      }
+    }, periodTicks, periodTicks);
+  }
+
+  /**
+   * Write a latency summary of all commands
+   * @param out Writer to write to
+   * @param commands Commands to write
+   * @param name Name of the metric
+   * @param help Help text of the metric
+   * @param completions Whether to write completions, executions otherwise
+   */
+  private static void writeSummary(Writer out, List<ACommand> commands, String name, String help, boolean completions) throws IOException {
+    out.write("# HELP " + name + " " + help + "\n");
+    out.write("# TYPE " + name + " summary\n");
+
+    for (ACommand command : commands) {
+      LatencyRecorder recorder = completions ? command.getStats().getCompletions() : command.getStats().getExecutions();
+      String label = labels(command);
+
+      for (double quantile : QUANTILES)
+        out.write(name + "{" + label + ",quantile=\"" + quantile + "\"} " + seconds(recorder.getPercentile(quantile * 100)) + "\n");
+
+      out.write(name + "_sum{" + label + "} " + seconds(recorder.getTotal()) + "\n");
+      out.write(name + "_count{" + label + "} " + recorder.getCount() + "\n");
+    }
+  }
+
+  /**
+   * Format nanoseconds as seconds
+   */
+  private static String seconds(long nanos) {
+    return String.format(Locale.ROOT, "%.9f", nanos / 1_000_000_000D);
+  }
+
+  /**
+   * Get the labels which identify a command, as commands of different plugins may share their name
+   */
+  private static String labels(ACommand command) {
+    return "plugin=\"" + escape(command.getPlugin().getName()) + "\",command=\"" + escape(command.getName()) + "\"";
+  }
+
+  /**
+   * Escape a label value
+   */
+  private static String escape(String value) {
+    return value
+      .replace("\\", "\\\\")
+      .replace("\"", "\\\"")
+      .replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,234 @@
+package me.blvckbytes.bblibcmd;
+
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A node within a command tree, which is either a literal that matches a
+  fixed word (ignoring casing) or an argument that parses a value of it's
+  declared type. Literal children are hashed by their lowercased names, so
+  resolving the next node costs a single lookup per level of the tree.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandNode {
+
+  // Name of the literal or placeholder of the argument, like <player>
+  private final String name;
+
+  // Type of the argument's value, null for literals and untyped arguments
+  private final @Nullable ArgumentType<?> type;
+
+  private final boolean literal;
+
+  // Lowercased names and aliases of literal children
+  private final Map<String, CommandNode> literals;
+
+  // Names of literal children, as they are suggested
+  private final List<String> literalNames;
+
+  private @Nullable CommandNode argument;
+  private @Nullable String permission;
+  private @Nullable Executor executor;
+  private @Nullable CompletionProvider completionProvider;
+
+  private final String[] aliases;
+
+  private CommandNode(String name, @Nullable ArgumentType<?> type, boolean literal, String... aliases) {
+    this.name = name;
+    this.type = type;
+    this.literal = literal;
+    this.aliases = aliases;
+    this.literals = new HashMap<>();
+    this.literalNames = new ArrayList<>();
+  }
+
+  /**
+   * Create a new root node, which stands for the command itself
+   */
+  public static CommandNode root() {
+    return new CommandNode("", null, true);
+  }
+
+  /**
+   * Create a new literal node
+   * @param name Word to match, casing will be ignored
+   * @param aliases Alternative words to match
+   */
+  public static CommandNode literal(String name, String... aliases) {
+    return new CommandNode(name, null, true, aliases);
+  }
+
+  /**
+   * Create a new argument node
+   * @param name Placeholder of the argument, like <player>
+   * @param type Type of the argument's value, null to keep the raw string
+   */
+  public static CommandNode argument(String name, @Nullable ArgumentType<?> type) {
+    return new CommandNode(name, type, false);
+  }
+
+  //=========================================================================//
+  //                                 Building                                //
+  //=========================================================================//
+
+  /**
+   * Add a child node, where a node may have any number of
+   * literal children but only a single argument child
+   * @param child Child to add
+   * @return This node, for chaining
+   */
+  public CommandNode then(CommandNode child) {
+    if (!child.literal) {
+      if (this.argument != null)
+        throw new IllegalStateException("The node " + name + " already has the argument " + this.argument.name);
+
+      if (this.type != null && this.type.isGreedy())
+        throw new IllegalStateException("The greedy node " + name + " can't have children");
+
+      this.argument = child;
+      return this;
+    }
+
+    registerLiteral(child.name, child);
+    for (String alias : child.aliases)
+      registerLiteral(alias, child);
+
+    literalNames.add(child.name);
+    return this;
+  }
+
+  /**
+   * Require a permission to enter this node
+   * @param permission Permission to require
+   * @return This node, for chaining
+   */
+  public CommandNode permission(String permission) {
+    this.permission = permission;
+    return this;
+  }
+
+  /**
+   * Make this node executable
+   * @param executor Executor to invoke when the command line ends at this node
+   * @return This node, for chaining
+   */
+  public CommandNode executes(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * Provide completions for this argument node
+   * @param completionProvider Provider of completions
+   * @return This node, for chaining
+   */
+  public CommandNode suggests(CompletionProvider completionProvider) {
+    this.completionProvider = completionProvider;
+    return this;
+  }
+
+  //=========================================================================//
+  //                                 Walking                                 //
+  //=========================================================================//
+
+  /**
+   * Resolve the child a word leads to, preferring literals over the argument
+   * @param word Word to resolve
+   * @return Child node, null if there's none
+   */
+  public @Nullable CommandNode child(String word) {
+    CommandNode child = literals.get(word.toLowerCase(Locale.ROOT));
+    return child != null ? child : argument;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public @Nullable ArgumentType<?> getType() {
+    return type;
+  }
+
+  public boolean isLiteral() {
+    return literal;
+  }
+
+  public List<String> getLiteralNames() {
+    return Collections.unmodifiableList(literalNames);
+  }
+
+  public @Nullable CommandNode getLiteral(String name) {
+    return literals.get(name.toLowerCase(Locale.ROOT));
+  }
+
+  public @Nullable CommandNode getArgument() {
+    return argument;
+  }
+
+  public @Nullable String getPermission() {
+    return permission;
+  }
+
+  public @Nullable Executor getExecutor() {
+    return executor;
+  }
+
+  public @Nullable CompletionProvider getCompletionProvider() {
+    return completionProvider;
+  }
+
+  /**
+   * Register a literal child under a key, which has to be unique
+   */
+  private void registerLiteral(String key, CommandNode child) {
+    if (literals.putIfAbsent(key.toLowerCase(Locale.ROOT), child) != null)
+      throw new IllegalStateException("The node " + name + " already has the literal " + key);
+  }
+
+  /**
+   * Executes the command once the command line ends at a node
+   */
+  @FunctionalInterface
+  public interface Executor {
+
+    /**
+     * @param cs Executing command sender
+     * @param label Label of the command, either name or an alias
+     * @param ctx Values of all arguments, where literals hold their raw word
+     */
+    void execute(CommandSender cs, String label, ArgumentContext ctx) throws CommandException;
+  }
+
+  /**
+   * Provides completions for an argument node
+   */
+  @FunctionalInterface
+  public interface CompletionProvider {
+
+    /**
+     * @param cs Executing command sender
+     * @param args Existing arguments in the chat-bar
+     * @param currArg Index of the current argument within args
+     * @param collector Collector to add suggestions to
+     */
+    void suggest(CommandSender cs, String[] args, int currArg, SuggestionCollector collector);
+  }
+}
@@ -0,0 +1,281 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandMap;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Registers commands within the server's command map. The command map and it's
+  register method are resolved once into a method handle, and the command trees
+  of clients are synchronized at most once per tick, which turns all commands
+  registered within the same tick into a single batch.
+
+  Failures are logged through the registering plugin's logger and kept, so
+  that they can be inspected later on.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandRegistrar {
+
+  private static CommandRegistrar instance;
+
+  // The server's command map
+  private final CommandMap commandMap;
+
+  // SimpleCommandMap#register(String, Command), bound to the server's command map
+  private final MethodHandle register;
+
+  // Getter of SimpleCommandMap#knownCommands, bound to the server's command map
+  private final MethodHandle knownCommands;
+
+  // CraftServer#syncCommands(), bound to the server, null if unavailable
+  private final @Nullable MethodHandle syncCommands;
+
+  // Whether a resync has been scheduled and not yet run
+  private final AtomicBoolean resyncPending;
+
+  // Failures by "<plugin>:<command>"
+  private final Map<String, Throwable> failures;
+
+  private CommandRegistrar() throws ReflectiveOperationException {
+    Object server = Bukkit.getServer();
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    Field commandMapF = findField(server.getClass(), "commandMap");
+    commandMapF.setAccessible(true);
+    CommandMap commandMap = (CommandMap) commandMapF.get(server);
+
+    // The register method is declared by the SimpleCommandMap, which the server's map extends
+    Method registerM = findMethod(commandMap.getClass(), "register", String.class, Command.class);
+    registerM.setAccessible(true);
+
+    this.register = lookup.unreflect(registerM)
+      .bindTo(commandMap)
+      .asType(MethodType.methodType(boolean.class, String.class, Command.class));
+
+    // All labels are kept within this map, including the prefixed ones
+    Field knownCommandsF = findField(commandMap.getClass(), "knownCommands");
+    knownCommandsF.setAccessible(true);
+
+    this.knownCommands = lookup.unreflectGetter(knownCommandsF)
+      .bindTo(commandMap)
+      .asType(MethodType.methodType(Map.class));
+
+    this.commandMap = commandMap;
+    this.syncCommands = resolveSyncCommands(server, lookup);
+    this.resyncPending = new AtomicBoolean();
+    this.failures = Collections.synchronizedMap(new LinkedHashMap<>());
+  }
+
+  /**
+   * Get the shared registrar instance, which resolves the command map on the first call
+   * @throws IllegalStateException The server's command map could not be resolved
+   */
+  public static synchronized CommandRegistrar getInstance() {
+    if (instance == null) {
+      try {
+        instance = new CommandRegistrar();
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException("Could not resolve the server's command map", e);
+      }
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Register a command within the server's command map, where the
+   * clients are resynchronized once all commands of this tick are registered
+   * @param plugin Plugin which owns the command, used as the fallback prefix
+   * @param command Command to register
+   * @return True on success, false if the registration failed
+   */
+  public boolean register(JavaPlugin plugin, Command command) {
+    try {
+      boolean ok = (boolean) register.invokeExact(plugin.getName(), command);
+
+      // The name was taken, so the command is only available by it's prefixed label
+      if (!ok)
+        plugin.getLogger().warning("The command /" + command.getName() + " is taken by another plugin, use it's prefixed label instead");
+
+      scheduleResync(plugin);
+      return true;
+    } catch (Throwable t) {
+      failures.put(plugin.getName() + ":" + command.getName(), t);
+      plugin.getLogger().log(Level.SEVERE, "Could not register the command /" + command.getName(), t);
+      return false;
+    }
+  }
+
+  /**
+   * Register multiple commands within the server's command map, as one batch
+   * @param plugin Plugin which owns the commands, used as the fallback prefix
+   * @param commands Commands to register
+   * @return Number of commands which have been registered successfully
+   */
+  public int registerAll(JavaPlugin plugin, Collection<? extends Command> commands) {
+    int registered = 0;
+
+    for (Command command : commands) {
+      if (register(plugin, command))
+        registered++;
+    }
+
+    return registered;
+  }
+
+  /**
+   * Remove a command from the server's command map, which has to happen on the main thread
+   * @param command Command to remove
+   */
+  public void unregister(Command command) {
+    unregisterAll(List.of(command));
+  }
+
+  /**
+   * Remove multiple commands from the server's command map as one batch,
+   * which has to happen on the main thread
+   * @param commands Commands to remove
+   */
+  @SuppressWarnings("unchecked")
+  public void unregisterAll(Collection<? extends Command> commands) {
+    if (commands.isEmpty())
+      return;
+
+    try {
+      Map<String, Command> known = (Map<String, Command>) knownCommands.invokeExact();
+
+      for (Command command : commands) {
+        command.unregister(commandMap);
+        known.values().removeIf(c -> c == command);
+      }
+    } catch (Throwable t) {
+      Bukkit.getLogger().log(Level.SEVERE, "Could not unregister commands", t);
+      return;
+    }
+
+    // The plugin might be disabling already, so there's no scheduling
+    resync();
+  }
+
+  /**
+   * Send the current command tree to all online clients right away
+   */
+  public void resync() {
+    resyncPending.set(false);
+
+    if (syncCommands != null) {
+      try {
+        syncCommands.invokeExact();
+      } catch (Throwable t) {
+        Bukkit.getLogger().log(Level.WARNING, "Could not synchronize the server's commands", t);
+      }
+    }
+
+    for (Player p : Bukkit.getOnlinePlayers())
+      p.updateCommands();
+  }
+
+  /**
+   * Get all registration failures so far, by "<plugin>:<command>"
+   */
+  public Map<String, Throwable> getFailures() {
+    synchronized (failures) {
+      return Map.copyOf(failures);
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Schedule a resync on the next tick, if none is pending yet
+   * @param plugin Plugin to schedule the resync with
+   */
+  private void scheduleResync(JavaPlugin plugin) {
+    if (!resyncPending.compareAndSet(false, true))
+      return;
+
+    try {
+      Bukkit.getScheduler().runTask(plugin, this::resync);
+    }
+
+    // Plugins which are not enabled yet can't schedule tasks, but the
+    // server will synchronize all commands once it finished starting up
+    catch (IllegalPluginAccessException e) {
+      resyncPending.set(false);
+    }
+  }
+
+  /**
+   * Resolve the server's command synchronization method, which
+   * rebuilds the command dispatcher the client trees are sent from
+   * @param server Server instance
+   * @param lookup Lookup to unreflect with
+   * @return Bound handle, null if the server doesn't have such a method
+   */
+  private static @Nullable MethodHandle resolveSyncCommands(Object server, MethodHandles.Lookup lookup) {
+    try {
+      Method syncM = findMethod(server.getClass(), "syncCommands");
+      syncM.setAccessible(true);
+      return lookup.unreflect(syncM).bindTo(server).asType(MethodType.methodType(void.class));
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Find a declared field within a class or any of it's superclasses
+   */
+  private static Field findField(Class<?> c, String name) throws NoSuchFieldException {
+    for (Class<?> curr = c; curr != null; curr = curr.getSuperclass()) {
+      try {
+        return curr.getDeclaredField(name);
+      } catch (NoSuchFieldException ignored) {}
+    }
+    throw new NoSuchFieldException(c.getName() + "." + name);
+  }
+
+  /**
+   * Find a declared method within a class or any of it's superclasses
+   */
+  private static Method findMethod(Class<?> c, String name, Class<?>... params) throws NoSuchMethodException {
+    for (Class<?> curr = c; curr != null; curr = curr.getSuperclass()) {
+      try {
+        return curr.getDeclaredMethod(name, params);
+      } catch (NoSuchMethodException ignored) {}
+    }
+    throw new NoSuchMethodException(c.getName() + "." + name);
+  }
+}
@@ -0,0 +1,258 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Registry of all commands, which resolves labels through a concurrent map,
+  so lookups never lock, even when they happen on completion threads. Writes
+  are rare and serialized, as they also have to keep the labels consistent.
+
+  Commands are unregistered automatically once their plugin disables, which
+  also removes them from the server's command map, so that reloading plugins
+  doesn't leak any old command instances.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandRegistry {
+
+  // Mapping lowercased names and aliases to their commands
+  private static final Map<String, ACommand> byLabel = new ConcurrentHashMap<>();
+
+  // Mapping plugins to the commands they registered, in registration order
+  private static final Map<Plugin, Set<ACommand>> byPlugin = new ConcurrentHashMap<>();
+
+  // Guards all writes
+  private static final Object writeLock = new Object();
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Add a command to the registry and register it within the server's command map,
+   * replacing a command of the same plugin and name, if one had been registered before
+   * @param command Command to add
+   */
+  static void add(ACommand command) {
+    JavaPlugin plugin = command.getPlugin();
+    ACommand replaced = null;
+
+    synchronized (writeLock) {
+      Set<ACommand> commands = byPlugin.get(plugin);
+
+      // First command of this plugin, clean up once it disables
+      if (commands == null) {
+        commands = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        byPlugin.put(plugin, commands);
+
+        // Plugins which are not enabled yet can't register listeners,
+        // so they have to unregister their commands themselves
+        try {
+          Bukkit.getPluginManager().registerEvents(new DisableHook(plugin), plugin);
+        } catch (IllegalPluginAccessException ignored) {}
+      }
+
+      for (ACommand existing : commands) {
+        if (existing.getName().equalsIgnoreCase(command.getName())) {
+          replaced = existing;
+          break;
+        }
+      }
+
+      if (replaced != null)
+        remove(replaced);
+
+      commands.add(command);
+
+      // Primary names take precedence over aliases of other commands
+      byLabel.put(command.getName().toLowerCase(Locale.ROOT), command);
+      for (String alias : command.getAliases())
+        byLabel.putIfAbsent(alias.toLowerCase(Locale.ROOT), command);
+    }
+
+    try {
+      CommandRegistrar registrar = CommandRegistrar.getInstance();
+
+      // Free the labels of the replaced command before claiming them
+      if (replaced != null)
+        registrar.unregister(replaced);
+
+      registrar.register(plugin, command);
+    } catch (IllegalStateException e) {
+      plugin.getLogger().log(Level.SEVERE, "Could not register the command /" + command.getName(), e);
+    }
+  }
+
+  /**
+   * Unregister a command from the registry and the server's command map,
+   * which has to happen on the main thread
+   * @param command Command to unregister
+   * @return True if the command has been registered, false otherwise
+   */
+  public static boolean unregister(ACommand command) {
+    synchronized (writeLock) {
+      if (!remove(command))
+        return false;
+    }
+
+    CommandRegistrar.getInstance().unregister(command);
+    return true;
+  }
+
+  /**
+   * Unregister all commands of a plugin from the registry and the server's
+   * command map, which has to happen on the main thread
+   * @param plugin Plugin to unregister the commands of
+   * @return Number of commands which have been unregistered
+   */
+  public static int unregisterAll(Plugin plugin) {
+    List<ACommand> removed;
+
+    synchronized (writeLock) {
+      Set<ACommand> commands = byPlugin.remove(plugin);
+      if (commands == null)
+        return 0;
+
+      removed = new ArrayList<>(commands);
+      for (ACommand command : removed)
+        removeLabels(command);
+
+      restoreLabels();
+    }
+
+    CommandRegistrar.getInstance().unregisterAll(removed);
+    return removed.size();
+  }
+
+  /**
+   * Get a command by it's name or one of it's aliases
+   * @param label Command name or alias, casing will be ignored
+   */
+  public static @Nullable ACommand getByLabel(String label) {
+    return byLabel.get(label.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Get all registered commands
+   */
+  public static List<ACommand> getCommands() {
+    List<ACommand> commands = new ArrayList<>();
+    for (Set<ACommand> pluginCommands : byPlugin.values())
+      commands.addAll(pluginCommands);
+    return commands;
+  }
+
+  /**
+   * Get all registered commands of a plugin
+   * @param plugin Plugin to get the commands of
+   */
+  public static List<ACommand> getCommands(Plugin plugin) {
+    Set<ACommand> commands = byPlugin.get(plugin);
+    return commands == null ? List.of() : List.copyOf(commands);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Remove a command from the registry, which has to be called while holding the write lock
+   * @param command Command to remove
+   * @return True if the command has been registered, false otherwise
+   */
+  private static boolean remove(ACommand command) {
+    Set<ACommand> commands = byPlugin.get(command.getPlugin());
+    if (commands == null || !commands.remove(command))
+      return false;
+
+    removeLabels(command);
+    restoreLabels();
+    return true;
+  }
+
+  /**
+   * Remove all labels which point at a command
+   * @param command Command to remove the labels of
+   */
+  private static void removeLabels(ACommand command) {
+    byLabel.values().removeIf(c -> c == command);
+  }
+
+  /**
+   * Add back labels which had been claimed by removed commands,
+   * where names still take precedence over aliases
+   */
+  private static void restoreLabels() {
+    List<ACommand> commands = getCommands();
+
+    for (ACommand command : commands)
+      byLabel.putIfAbsent(command.getName().toLowerCase(Locale.ROOT), command);
+
+    for (ACommand command : commands) {
+      for (String alias : command.getAliases())
+        byLabel.putIfAbsent(alias.toLowerCase(Locale.ROOT), command);
+    }
+  }
+
+  /**
+   * Unregisters all commands of a plugin once it disables, and releases
+   * all shared resources once no plugin has any commands left
+   */
+  private static class DisableHook implements Listener {
+
+    private final Plugin plugin;
+
+    public DisableHook(Plugin plugin) {
+      this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDisable(PluginDisableEvent e) {
+      if (e.getPlugin() != plugin)
+        return;
+
+      unregisterAll(plugin);
+
+      // Runs after the shared resources released this plugin, as it's monitoring
+      if (byPlugin.isEmpty()) {
+        ACommand.shutdownExecutor();
+        CommandWatchdog.disable();
+        return;
+      }
+
+      // Hand the resources which track players over to a plugin which still has commands
+      for (ACommand command : getCommands()) {
+        if (command.getPlugin().isEnabled()) {
+          ACommand.bindSharedResources(command.getPlugin());
+          break;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package me.blvckbytes.bblibcmd;
+
+import lombok.Getter;
+import me.blvckbytes.bblibutil.component.GradientGenerator;
+import me.blvckbytes.bblibutil.component.IComponent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Immutable snapshot of everything a command reads from the config, alongside
+  the usages rendered from it. Commands publish snapshots as a whole, so that
+  calls always read a consistent state, even while the config is reloading.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandSnapshot {
+
+  @Getter
+  private final CommandHandlerSection sect;
+
+  // Description of the command
+  @Getter
+  private final String description;
+
+  // Descriptions of all arguments, in order
+  private final List<String> argDescriptions;
+
+  // Gradient generator the usages have been rendered with
+  private final @Nullable GradientGenerator gradientGenerator;
+
+  // One usage per argument index, followed by the unfocused usage, null if not yet rendered
+  private final @Nullable IComponent[] usages;
+
+  CommandSnapshot(
+    CommandHandlerSection sect,
+    String description,
+    List<String> argDescriptions,
+    @Nullable GradientGenerator gradientGenerator,
+    @Nullable IComponent[] usages
+  ) {
+    this.sect = sect;
+    this.description = description;
+    this.argDescriptions = List.copyOf(argDescriptions);
+    this.gradientGenerator = gradientGenerator;
+    this.usages = usages;
+  }
+
+  /**
+   * Get an argument's description, where arguments out of range yield the last one
+   * @param argId Argument id
+   */
+  public String getArgumentDescription(int argId) {
+    return argDescriptions.get(Math.min(argId, argDescriptions.size() - 1));
+  }
+
+  /**
+   * Whether the usages have been rendered with the provided gradient generator
+   */
+  boolean isRenderedFor(@Nullable GradientGenerator gradientGenerator) {
+    return usages != null && this.gradientGenerator == gradientGenerator;
+  }
+
+  /**
+   * Get the usage for a focused argument, where arguments out of range are
+   * unfocused, which may only be called after {@link #isRenderedFor} succeeded
+   */
+  IComponent getUsage(@Nullable Integer focusedArgument) {
+    if (usages == null)
+      throw new IllegalStateException("The usages have not been rendered yet");
+
+    if (focusedArgument == null || focusedArgument < 0 || focusedArgument >= usages.length - 1)
+      return usages[usages.length - 1];
+    return usages[focusedArgument];
+  }
+
+  /**
+   * Whether a component is one of the rendered usages of this snapshot
+   * @param component Component to check
+   */
+  boolean isUsage(IComponent component) {
+    if (usages == null)
+      return false;
+
+    for (IComponent usage : usages) {
+      if (usage == component)
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Create a copy of this snapshot which holds rendered usages
+   * @param gradientGenerator Gradient generator the usages have been rendered with
+   * @param usages One usage per argument index, followed by the unfocused usage
+   */
+  CommandSnapshot withUsages(@Nullable GradientGenerator gradientGenerator, IComponent[] usages) {
+    return new CommandSnapshot(sect, description, argDescriptions, gradientGenerator, usages);
+  }
+}
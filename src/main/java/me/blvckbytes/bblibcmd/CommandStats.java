@@ -0,0 +1,114 @@
+package me.blvckbytes.bblibcmd;
+
+import lombok.Getter;
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Instrumentation of a single command, which records the latencies of
+  executions and completions, the command exceptions that occurred by
+  their type and the number of suggestions completions resulted in.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class CommandStats {
+
+  // Latencies of executions, including permission checks and argument parsing
+  private final LatencyRecorder executions;
+
+  // Latencies of completions, including permission checks
+  private final LatencyRecorder completions;
+
+  // Total number of suggestions all completions resulted in
+  private final LongAdder completionResults;
+
+  // Number of command exceptions per exception type
+  private final Map<Class<? extends CommandException>, LongAdder> errorCounts;
+
+  public CommandStats() {
+    this.executions = new LatencyRecorder();
+    this.completions = new LatencyRecorder();
+    this.completionResults = new LongAdder();
+    this.errorCounts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Record a finished execution
+   * @param nanos Time the execution took in nanoseconds
+   * @param error Exception the execution resulted in, null if it succeeded
+   */
+  public void recordExecution(long nanos, @Nullable CommandException error) {
+    executions.record(nanos);
+
+    if (error != null)
+      errorCounts.computeIfAbsent(error.getClass(), k -> new LongAdder()).increment();
+  }
+
+  /**
+   * Record a finished completion
+   * @param nanos Time the completion took in nanoseconds
+   * @param results Number of suggestions the completion resulted in
+   */
+  public void recordCompletion(long nanos, int results) {
+    completions.record(nanos);
+    completionResults.add(results);
+  }
+
+  /**
+   * Get the number of command exceptions per simple name of their type
+   */
+  public Map<String, Long> getErrors() {
+    Map<String, Long> errors = new TreeMap<>();
+    errorCounts.forEach((type, count) -> errors.merge(type.getSimpleName(), count.sum(), Long::sum));
+    return Collections.unmodifiableMap(errors);
+  }
+
+  /**
+   * Get the total number of command exceptions
+   */
+  public long getErrorCount() {
+    long sum = 0;
+    for (LongAdder count : errorCounts.values())
+      sum += count.sum();
+    return sum;
+  }
+
+  /**
+   * Get the average number of suggestions per completion
+   */
+  public double getAverageCompletionResults() {
+    long count = completions.getCount();
+    return count == 0 ? 0 : (double) completionResults.sum() / count;
+  }
+
+  /**
+   * Clear all recorded values
+   */
+  public void reset() {
+    executions.reset();
+    completions.reset();
+    completionResults.reset();
+    errorCounts.clear();
+  }
+}
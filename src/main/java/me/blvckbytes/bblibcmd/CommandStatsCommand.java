@@ -0,0 +1,94 @@
+package me.blvckbytes.bblibcmd;
+
+import me.blvckbytes.bblibcmd.exception.CommandException;
+import me.blvckbytes.bblibconfig.IConfig;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Lists the registered commands with the highest execution latency, as
+  recorded by the built-in instrumentation of all commands.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandStatsCommand extends ACommand {
+
+  // Percentile the slowest commands are ranked by
+  private static final double RANKING_PERCENTILE = 99;
+
+  /**
+   * @param plugin Plugin ref
+   * @param cfg Config ref
+   * @param name Name of the command
+   * @param rootPerm Top level permission, may be null if none
+   */
+  public CommandStatsCommand(JavaPlugin plugin, IConfig cfg, String name, @Nullable String rootPerm) {
+    super(
+      plugin, cfg, name, rootPerm,
+      new CommandArgument("[limit]", null)
+    );
+  }
+
+  @Override
+  protected void invoke(CommandSender cs, String label, String[] args) throws CommandException {
+    int limit = args.length == 0 ? 10 : parseInt(args, 0, 1, 100);
+    List<ACommand> slowest = CommandMetrics.getSlowest(RANKING_PERCENTILE, limit);
+
+    if (slowest.isEmpty()) {
+      sendMessage(cs, getSect().getStatsEmpty().withPrefix());
+      return;
+    }
+
+    sendMessage(cs, getSect().getStatsHeader().withPrefix().withVariable("count", String.valueOf(slowest.size())));
+
+    for (ACommand command : slowest) {
+      CommandStats stats = command.getStats();
+      LatencyRecorder executions = stats.getExecutions();
+
+      sendMessage(cs,
+        getSect().getStatsEntry()
+          .withPrefix()
+          .withVariable("command", command.getName())
+          .withVariable("executions", String.valueOf(executions.getCount()))
+          .withVariable("p50", millis(executions.getPercentile(50)))
+          .withVariable("p99", millis(executions.getPercentile(99)))
+          .withVariable("max", millis(executions.getMax()))
+          .withVariable("errors", String.valueOf(stats.getErrorCount()))
+          .withVariable("completions", String.valueOf(stats.getCompletions().getCount()))
+          .withVariable("completion_p99", millis(stats.getCompletions().getPercentile(99)))
+      );
+    }
+  }
+
+  @Override
+  protected Stream<String> onTabCompletion(CommandSender cs, String[] args, int currArg) {
+    // The limit is a free number, there's nothing to suggest
+    return Stream.empty();
+  }
+
+  /**
+   * Format nanoseconds as milliseconds
+   */
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000D);
+  }
+}
@@ -0,0 +1,276 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Opt-in watchdog of command executions and completions. Calls which exceed
+  their budget have the stack of their thread sampled periodically, and once
+  they finish, a report of the collapsed stack samples is logged.
+
+  Every thread reuses a single watch, so tracking a call which stays within
+  it's budget only costs a few field writes, and nothing at all while the
+  watchdog is disabled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommandWatchdog {
+
+  // Maximum number of frames per sample, starting from the innermost frame
+  private static final int MAX_FRAMES = 48;
+
+  // Maximum number of samples taken from a single call
+  private static final int MAX_SAMPLES = 1000;
+
+  private static volatile CommandWatchdog instance;
+
+  // Watches of all threads which ever executed a command
+  private static final Map<Thread, Watch> watches = new ConcurrentHashMap<>();
+  private static final ThreadLocal<Watch> localWatch = ThreadLocal.withInitial(() -> {
+    Watch watch = new Watch(Thread.currentThread());
+    watches.put(watch.thread, watch);
+    return watch;
+  });
+
+  private final long budgetNanos;
+  private final ScheduledExecutorService sampler;
+
+  private CommandWatchdog(long budgetMs, long sampleIntervalMs) {
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    this.sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "bblibcmd-watchdog");
+      t.setDaemon(true);
+      return t;
+    });
+
+    this.sampler.scheduleAtFixedRate(this::sample, sampleIntervalMs, sampleIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Enable the watchdog, replacing the current one if it was already enabled
+   * @param budgetMs Time a call may take before it's being sampled
+   * @param sampleIntervalMs Time between two samples of a call's stack
+   */
+  public static synchronized void enable(long budgetMs, long sampleIntervalMs) {
+    if (budgetMs < 0 || sampleIntervalMs <= 0)
+      throw new IllegalArgumentException("The budget may not be negative and the interval has to be positive");
+
+    disable();
+    instance = new CommandWatchdog(budgetMs, sampleIntervalMs);
+  }
+
+  /**
+   * Disable the watchdog, where calls which are currently being
+   * sampled will still be reported once they finish
+   */
+  public static synchronized void disable() {
+    if (instance == null)
+      return;
+
+    instance.sampler.shutdownNow();
+    instance = null;
+  }
+
+  /**
+   * Whether the watchdog is currently enabled
+   */
+  public static boolean isEnabled() {
+    return instance != null;
+  }
+
+  //=========================================================================//
+  //                                 Tracking                                //
+  //=========================================================================//
+
+  /**
+   * Start tracking a call on the current thread, where nested calls are
+   * accounted to the outermost call, and has to be followed by {@link #exit}
+   * @param command Command which is being called
+   * @param kind Kind of call, used within the report
+   * @param sender Sender of the call
+   * @param args Arguments of the call
+   * @return Watch of the call, null if the watchdog is disabled
+   */
+  static Watch enter(ACommand command, String kind, CommandSender sender, String[] args) {
+    if (instance == null)
+      return null;
+
+    Watch watch = localWatch.get();
+
+    if (watch.depth++ == 0)
+      watch.begin(command, kind, sender, args);
+
+    return watch;
+  }
+
+  /**
+   * Stop tracking a call on the current thread and log it's report, if it has been sampled
+   * @param watch Watch returned by {@link #enter}, may be null
+   */
+  static void exit(Watch watch) {
+    if (watch == null || --watch.depth > 0)
+      return;
+
+    String report = watch.end();
+    if (report != null)
+      watch.command.getPlugin().getLogger().warning(report);
+  }
+
+  /**
+   * Sample the stacks of all calls which exceeded their budget
+   */
+  private void sample() {
+    long now = System.nanoTime();
+
+    for (Iterator<Watch> it = watches.values().iterator(); it.hasNext();) {
+      Watch watch = it.next();
+
+      // Forget about threads which died
+      if (!watch.thread.isAlive()) {
+        it.remove();
+        continue;
+      }
+
+      long generation = watch.generation;
+      long start = watch.start;
+
+      if (start == 0 || now - start < budgetNanos)
+        continue;
+
+      watch.addSample(generation, watch.thread.getStackTrace());
+    }
+  }
+
+  /**
+   * Tracks the calls of a single thread, one call at a time
+   */
+  static class Watch {
+
+    private final Thread thread;
+
+    // Only ever accessed by the owning thread
+    private int depth;
+
+    // Identifies the current call, as samples race with the call finishing
+    private volatile long generation;
+
+    // Start of the current call, zero if there is no call
+    private volatile long start;
+
+    private volatile ACommand command;
+    private volatile String kind;
+    private volatile String sender;
+    private volatile String[] args;
+
+    // Number of samples per collapsed stack of the current call, guarded by this
+    private final Map<String, Integer> samples;
+    private int sampleCount;
+
+    private Watch(Thread thread) {
+      this.thread = thread;
+      this.samples = new HashMap<>();
+    }
+
+    /**
+     * Begin a new call
+     */
+    private void begin(ACommand command, String kind, CommandSender sender, String[] args) {
+      this.command = command;
+      this.kind = kind;
+      this.sender = sender.getName();
+      this.args = args;
+      this.generation++;
+      this.start = Math.max(1, System.nanoTime());
+    }
+
+    /**
+     * End the current call
+     * @return Report of the call, null if it hasn't been sampled
+     */
+    private String end() {
+      long elapsed = System.nanoTime() - start;
+      this.start = 0;
+
+      synchronized (this) {
+        if (sampleCount == 0)
+          return null;
+
+        List<Map.Entry<String, Integer>> stacks = new ArrayList<>(samples.entrySet());
+        stacks.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        StringBuilder report = new StringBuilder()
+          .append("Slow command ").append(kind).append(" of /").append(command.getName())
+          .append(" by ").append(sender)
+          .append(" with args ").append(Arrays.toString(args))
+          .append(" took ").append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append("ms")
+          .append(", ").append(sampleCount).append(" stack samples:");
+
+        for (Map.Entry<String, Integer> stack : stacks)
+          report.append('\n').append(stack.getValue()).append(' ').append(stack.getKey());
+
+        samples.clear();
+        sampleCount = 0;
+        return report.toString();
+      }
+    }
+
+    /**
+     * Add a sample of the thread's stack to the current call
+     * @param generation Generation of the call the sample was taken for
+     * @param stack Sampled stack, innermost frame first
+     */
+    private void addSample(long generation, StackTraceElement[] stack) {
+      synchronized (this) {
+        // The call finished or another call began while sampling
+        if (this.generation != generation || start == 0 || sampleCount >= MAX_SAMPLES)
+          return;
+
+        samples.merge(collapse(stack), 1, Integer::sum);
+        sampleCount++;
+      }
+    }
+
+    /**
+     * Collapse a stack into a single line, outermost frame first
+     * @param stack Stack to collapse, innermost frame first
+     */
+    private static String collapse(StackTraceElement[] stack) {
+      StringBuilder sb = new StringBuilder();
+
+      for (int i = Math.min(stack.length, MAX_FRAMES) - 1; i >= 0; i--) {
+        if (sb.length() > 0)
+          sb.append(';');
+
+        sb.append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+
+        if (stack[i].getLineNumber() >= 0)
+          sb.append(':').append(stack[i].getLineNumber());
+      }
+
+      return sb.toString();
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Remembers the last completions of each player per command and argument,
+  so that typing further characters of the same word narrows down the
+  previous results instead of asking the suggestion sources again.
+
+  Completions which depend on player names are forgotten whenever a
+  player joins or quits, while all others are kept until they expire.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CompletionNarrowingCache implements Listener {
+
+  // Time after which remembered completions are no longer used
+  private static final long TTL_NANOS = 3_000_000_000L;
+
+  // Maximum number of remembered completions per player
+  private static final int MAX_ENTRIES_PER_PLAYER = 8;
+
+  // Epoch of remembered completions which don't depend on player names
+  private static final long NO_EPOCH = -1;
+
+  private static CompletionNarrowingCache instance;
+
+  // Plugin this cache is bound to, until it disables
+  private final JavaPlugin plugin;
+
+  // Remembered completions per player, least recently used first
+  private final Map<UUID, LinkedHashMap<Key, Entry>> entries;
+
+  // Bumped whenever the set of online players changes, which renders all
+  // completions depending on player names remembered before that stale
+  private final AtomicLong playerEpoch;
+
+  private final LongAdder hits, misses;
+
+  private CompletionNarrowingCache(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.entries = new ConcurrentHashMap<>();
+    this.playerEpoch = new AtomicLong();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * Get the shared cache instance, which is created and
+   * registered on the first call, and again once the plugin it's
+   * bound to has been disabled
+   * @param plugin Plugin to register the invalidation listener with
+   */
+  public static synchronized CompletionNarrowingCache getInstance(JavaPlugin plugin) {
+    if (instance == null) {
+      instance = new CompletionNarrowingCache(plugin);
+      Bukkit.getPluginManager().registerEvents(instance, plugin);
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Try to answer a completion by narrowing down previously remembered
+   * completions of the same argument, which the query extends
+   * @param player Target player's UUID
+   * @param command Command which is being completed
+   * @param args Existing arguments in the chat-bar
+   * @param currArg Index of the argument which is being completed
+   * @param collector Collector to add the narrowed down suggestions to
+   * @return True if the completion has been answered, false if the sources need to be asked
+   */
+  public boolean narrow(UUID player, ACommand command, String[] args, int currArg, SuggestionCollector collector) {
+    Entry entry = lookup(player, new Key(command, currArg, args));
+    SuggestionMatcher matcher = collector.getMatcher();
+
+    if (entry == null || !matcher.getLowerQuery().startsWith(entry.lowerQuery)) {
+      misses.increment();
+      return false;
+    }
+
+    List<String> narrowed = new ArrayList<>();
+    for (String suggestion : entry.suggestions) {
+      if (matcher.contains(suggestion))
+        narrowed.add(suggestion);
+    }
+
+    // Nothing contains the query anymore, let the sources come up with corrections
+    if (narrowed.isEmpty()) {
+      misses.increment();
+      return false;
+    }
+
+    hits.increment();
+
+    // Ranks may have changed with the query, so all of them have to be offered
+    for (String suggestion : narrowed)
+      collector.add(suggestion);
+
+    return true;
+  }
+
+  /**
+   * Remember the completions of a collector, if they're a complete
+   * set of all suggestions which contain the query
+   * @param player Target player's UUID
+   * @param command Command which has been completed
+   * @param args Existing arguments in the chat-bar
+   * @param currArg Index of the argument which has been completed
+   * @param collector Collector which the sources added to
+   */
+  public void remember(UUID player, ACommand command, String[] args, int currArg, SuggestionCollector collector) {
+    // Suggestions which don't contain the query can't be narrowed down
+    if (collector.isCancelled() || collector.size() != collector.count(SuggestionRank.FUZZY))
+      return;
+
+    // The limit may have cut off matches, so the set is not complete
+    if (collector.count(SuggestionRank.SUBSTRING) >= collector.getLimit())
+      return;
+
+    Entry entry = new Entry(
+      collector.getMatcher().getLowerQuery(),
+      collector.toList(SuggestionRank.SUBSTRING),
+      System.nanoTime(),
+      collector.isPlayerDependent() ? playerEpoch.get() : NO_EPOCH
+    );
+
+    LinkedHashMap<Key, Entry> playerEntries = entries.computeIfAbsent(player, k -> new LinkedHashMap<>(16, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > MAX_ENTRIES_PER_PLAYER;
+      }
+    });
+
+    synchronized (playerEntries) {
+      playerEntries.put(new Key(command, currArg, args), entry);
+    }
+  }
+
+  /**
+   * Forget about all remembered completions which depend on player names
+   */
+  public void invalidatePlayerDependent() {
+    playerEpoch.incrementAndGet();
+  }
+
+  /**
+   * Get the number of completions which have been answered by narrowing down
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of completions which had to be answered by the sources
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    // Bukkit drops this listener, so the next caller has to bind a new cache
+    synchronized (CompletionNarrowingCache.class) {
+      if (instance == this)
+        instance = null;
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onJoin(PlayerJoinEvent e) {
+    invalidatePlayerDependent();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(PlayerQuitEvent e) {
+    entries.remove(e.getPlayer().getUniqueId());
+    invalidatePlayerDependent();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Look up a player's remembered completion, if it's still fresh
+   * @param player Target player's UUID
+   * @param key Key of the completion
+   * @return Remembered completion, null if there's none
+   */
+  private @Nullable Entry lookup(UUID player, Key key) {
+    LinkedHashMap<Key, Entry> playerEntries = entries.get(player);
+
+    if (playerEntries == null)
+      return null;
+
+    synchronized (playerEntries) {
+      Entry entry = playerEntries.get(key);
+
+      if (entry == null)
+        return null;
+
+      boolean stale = entry.epoch != NO_EPOCH && entry.epoch != playerEpoch.get();
+
+      if (stale || System.nanoTime() - entry.createdAt > TTL_NANOS) {
+        playerEntries.remove(key);
+        return null;
+      }
+
+      return entry;
+    }
+  }
+
+  /**
+   * Identifies the argument of a command, following the same preceding arguments
+   */
+  private static class Key {
+
+    private final ACommand command;
+    private final int argIndex;
+    private final List<String> preceding;
+    private final int hash;
+
+    public Key(ACommand command, int argIndex, String[] args) {
+      this.command = command;
+      this.argIndex = argIndex;
+      this.preceding = Arrays.asList(Arrays.copyOf(args, Math.min(argIndex, args.length)));
+      this.hash = Objects.hash(System.identityHashCode(command), argIndex, preceding);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+
+      if (!(o instanceof Key))
+        return false;
+
+      Key other = (Key) o;
+      return command == other.command && argIndex == other.argIndex && preceding.equals(other.preceding);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * Completions which contained a query, at the time they were remembered
+   */
+  private static class Entry {
+
+    private final String lowerQuery;
+    private final List<String> suggestions;
+    private final long createdAt;
+    private final long epoch;
+
+    public Entry(String lowerQuery, List<String> suggestions, long createdAt, long epoch) {
+      this.lowerQuery = lowerQuery;
+      this.suggestions = suggestions;
+      this.createdAt = createdAt;
+      this.epoch = epoch;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package me.blvckbytes.bblibcmd;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Precomputed lookup table of an enum's constants, which resolves names
+  case-insensitively through a hash index and keeps the joined list of
+  options ready for error messages. Tables are created once per enum class.
+
+  Custom keys have to be registered under a name, which builds their index
+  once. The returned key index is meant to be kept in a constant.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class EnumLookup<T extends Enum<T>> {
+
+  private static final ClassValue<EnumLookup<?>> lookups = new ClassValue<>() {
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected EnumLookup<?> computeValue(Class<?> type) {
+      return new EnumLookup(type);
+    }
+  };
+
+  private final List<T> constants;
+  private final Map<String, T> byName;
+
+  // Registered indices of custom keys, by their name
+  private final Map<String, KeyIndex<T>> byKey;
+
+  // Comma separated list of all constant names
+  private final String options;
+
+  // Names of all constants in their natural order
+  private final List<String> sortedNames;
+
+  // Fuzzy index over all constant names
+  private final FuzzyIndex fuzzyIndex;
+
+  private EnumLookup(Class<T> enumClass) {
+    this.constants = List.of(enumClass.getEnumConstants());
+    this.byKey = new ConcurrentHashMap<>();
+    this.byName = buildIndex(Enum::name);
+    this.options = constants.stream()
+      .map(Enum::name)
+      .collect(Collectors.joining(", "));
+    this.sortedNames = constants.stream()
+      .map(Enum::name)
+      .sorted()
+      .collect(Collectors.toUnmodifiableList());
+    this.fuzzyIndex = new FuzzyIndex(sortedNames);
+  }
+
+  /**
+   * Get the lookup table of an enum class
+   * @param enumClass Class of the target enum
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Enum<T>> EnumLookup<T> of(Class<T> enumClass) {
+    return (EnumLookup<T>) lookups.get(enumClass);
+  }
+
+  /**
+   * Find a constant by it's name, ignoring casing
+   * @param name Name to search for
+   * @return Matching constant, null if there was no match
+   */
+  public @Nullable T find(String name) {
+    return byName.get(name.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Register a custom key of all constants, where the index is only built
+   * once per name and registering the same name again yields the existing index
+   * @param name Name of the key, unique per enum
+   * @param keyExtractor Extracts the key of a constant
+   * @return Index of the key
+   */
+  public KeyIndex<T> register(String name, Function<T, String> keyExtractor) {
+    return byKey.computeIfAbsent(name, k -> new KeyIndex<>(this, buildIndex(keyExtractor)));
+  }
+
+  /**
+   * Get the index of a previously registered custom key
+   * @param name Name of the key
+   * @return Index of the key, null if it hasn't been registered
+   */
+  public @Nullable KeyIndex<T> getKeyIndex(String name) {
+    return byKey.get(name);
+  }
+
+  /**
+   * Get all constants in their declaration order
+   */
+  public List<T> getConstants() {
+    return constants;
+  }
+
+  /**
+   * Get the names of all constants in their natural order
+   */
+  public List<String> getSortedNames() {
+    return sortedNames;
+  }
+
+  /**
+   * Get the fuzzy index over all constant names
+   */
+  public FuzzyIndex getFuzzyIndex() {
+    return fuzzyIndex;
+  }
+
+  /**
+   * Get the comma separated list of all constant names
+   */
+  public String getOptions() {
+    return options;
+  }
+
+  /**
+   * Build a case-insensitive index of all constants, where
+   * the first constant of colliding keys wins
+   * @param keyExtractor Extracts the key of a constant
+   */
+  private Map<String, T> buildIndex(Function<T, String> keyExtractor) {
+    Map<String, T> index = new HashMap<>();
+
+    for (T constant : constants) {
+      String key = keyExtractor.apply(constant);
+      if (key != null)
+        index.putIfAbsent(key.toLowerCase(Locale.ROOT), constant);
+    }
+
+    return index;
+  }
+
+  /**
+   * Case-insensitive index of a custom key of all constants
+   */
+  public static class KeyIndex<T extends Enum<T>> {
+
+    private final EnumLookup<T> lookup;
+    private final Map<String, T> index;
+
+    private KeyIndex(EnumLookup<T> lookup, Map<String, T> index) {
+      this.lookup = lookup;
+      this.index = index;
+    }
+
+    /**
+     * Find a constant by it's key, ignoring casing
+     * @param key Key to search for
+     * @return Matching constant, null if there was no match
+     */
+    public @Nullable T find(String key) {
+      return index.get(key.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Get the lookup table this index belongs to
+     */
+    public EnumLookup<T> getLookup() {
+      return lookup;
+    }
+  }
+}
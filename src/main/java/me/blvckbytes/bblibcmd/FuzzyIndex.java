@@ -0,0 +1,362 @@
+package me.blvckbytes.bblibcmd;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Immutable bigram index over a set of names, which finds names within a small
+  edit distance of a query. Candidates are generated from the postings of the
+  query's rarest bigrams only, as a name within the distance has to share all
+  but a few of the query's bigrams, and are then verified by a bounded edit
+  distance which gives up as soon as the bound is exceeded.
+
+  Every search is bounded by a number of verified candidates and a time
+  budget, so typos never cost more than a fixed amount of CPU, at the expense
+  of possibly missing some matches within very large sets of names.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FuzzyIndex {
+
+  // Queries shorter than this have too few bigrams to match anything reliably
+  private static final int MIN_QUERY_LENGTH = 3;
+
+  // Maximum number of candidates verified per search
+  private static final int MAX_CANDIDATES = 2000;
+
+  // Time budget of searches which don't specify their own
+  public static final long DEFAULT_BUDGET_NANOS = 2_000_000;
+
+  // Padding at the start and the end of names, so that their edges form bigrams too
+  private static final char BOUNDARY = '\0';
+
+  private static final int[] NO_POSTING = new int[0];
+  private static final FuzzyIndex EMPTY = new FuzzyIndex(List.of());
+
+  // Names in their original casing, and lowercased at the same index
+  private final String[] names;
+  private final String[] lower;
+
+  // Mapping bigrams to the ascending indices of all names containing them
+  private final Map<Integer, int[]> postings;
+
+  /**
+   * Build a new index over a set of names
+   * @param input Names to index, duplicates ignoring casing are dropped
+   */
+  public FuzzyIndex(Collection<String> input) {
+    Map<String, String> unique = new LinkedHashMap<>();
+    for (String name : input)
+      unique.putIfAbsent(name.toLowerCase(Locale.ROOT), name);
+
+    this.lower = unique.keySet().toArray(new String[0]);
+    this.names = unique.values().toArray(new String[0]);
+
+    // Count first, so that every posting list is allocated exactly once
+    Map<Integer, int[]> counts = new HashMap<>();
+    for (String name : lower) {
+      for (int gram : grams(name, false))
+        counts.computeIfAbsent(gram, k -> new int[1])[0]++;
+    }
+
+    this.postings = new HashMap<>(counts.size() * 4 / 3 + 1);
+    Map<Integer, int[]> fill = new HashMap<>(counts.size() * 4 / 3 + 1);
+
+    for (int i = 0; i < lower.length; i++) {
+      for (int gram : grams(lower[i], false)) {
+        int[] posting = postings.computeIfAbsent(gram, k -> new int[counts.get(k)[0]]);
+        posting[fill.computeIfAbsent(gram, k -> new int[1])[0]++] = i;
+      }
+    }
+  }
+
+  /**
+   * Get an index without any names
+   */
+  public static FuzzyIndex empty() {
+    return EMPTY;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Search for names within a small edit distance of the query, ignoring casing
+   * @param query Query to search for
+   * @param prefix Whether to compare the query against the start of names only
+   * @param limit Maximum number of results
+   * @param budgetNanos Maximum time to spend on verifying candidates
+   * @return Names in their original casing, closest first
+   */
+  public List<String> search(String query, boolean prefix, int limit, long budgetNanos) {
+    String q = query.toLowerCase(Locale.ROOT);
+    int maxDistance = maxDistance(q);
+
+    if (q.length() < MIN_QUERY_LENGTH || limit <= 0)
+      return List.of();
+
+    int[] grams = grams(q, prefix);
+
+    // Names within the distance share at least this many bigrams with the query
+    int minShared = grams.length - 2 * maxDistance;
+    if (minShared < 1)
+      return List.of();
+
+    // Names sharing enough bigrams have to occur within one of the rarest few
+    Integer[] byRarity = new Integer[grams.length];
+    for (int i = 0; i < grams.length; i++)
+      byRarity[i] = grams[i];
+    Arrays.sort(byRarity, Comparator.comparingInt(g -> postings.getOrDefault(g, NO_POSTING).length));
+
+    long deadline = System.nanoTime() + budgetNanos;
+    Set<Integer> visited = new HashSet<>();
+    List<long[]> matches = new ArrayList<>();
+
+    probing:
+    for (int g = 0; g < grams.length - minShared + 1; g++) {
+      int[] posting = postings.get(byRarity[g]);
+      if (posting == null)
+        continue;
+
+      for (int id : posting) {
+        if (!visited.add(id))
+          continue;
+
+        if (visited.size() > MAX_CANDIDATES || ((visited.size() & 63) == 0 && System.nanoTime() > deadline))
+          break probing;
+
+        String candidate = lower[id];
+        int distance = prefix ? prefixDistance(q, candidate, maxDistance) : distance(q, candidate, maxDistance);
+
+        if (distance <= maxDistance)
+          matches.add(new long[] { distance, id });
+      }
+    }
+
+    matches.sort(
+      Comparator.<long[]>comparingLong(m -> m[0])
+        .thenComparingInt(m -> lower[(int) m[1]].length())
+        .thenComparing(m -> lower[(int) m[1]])
+    );
+
+    List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+    for (int i = 0; i < matches.size() && i < limit; i++)
+      result.add(names[(int) matches.get(i)[1]]);
+
+    return result;
+  }
+
+  /**
+   * Search for names within a small edit distance of the query, ignoring casing,
+   * within the default time budget
+   * @param query Query to search for
+   * @param prefix Whether to compare the query against the start of names only
+   * @param limit Maximum number of results
+   * @return Names in their original casing, closest first
+   */
+  public List<String> search(String query, boolean prefix, int limit) {
+    return search(query, prefix, limit, DEFAULT_BUDGET_NANOS);
+  }
+
+  /**
+   * Find the single closest name to a mistyped query
+   * @param query Query to search for
+   * @return Name in it's original casing, null if there is no close enough name
+   */
+  public @Nullable String closest(String query) {
+    List<String> result = search(query, false, 1, DEFAULT_BUDGET_NANOS);
+    return result.isEmpty() ? null : result.get(0);
+  }
+
+  /**
+   * Get the number of indexed names
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Search a small set of names without building an index, by verifying every
+   * name, which is cheaper than indexing for sets that change on every call
+   * @param input Names to search through
+   * @param query Query to search for
+   * @param prefix Whether to compare the query against the start of names only
+   * @param limit Maximum number of results
+   * @return Names in their original casing, closest first
+   */
+  public static List<String> scan(Collection<String> input, String query, boolean prefix, int limit) {
+    return scan(input, Function.identity(), query, prefix, limit);
+  }
+
+  /**
+   * Search a small set of items by their names without building an index, by verifying
+   * every name, where only the matching items are kept, so the input may be filtered lazily
+   * @param input Items to search through
+   * @param nameOf Extractor of an item's name
+   * @param query Query to search for
+   * @param prefix Whether to compare the query against the start of names only
+   * @param limit Maximum number of results
+   * @return Matching items, closest first
+   */
+  public static <T> List<T> scan(Iterable<T> input, Function<T, String> nameOf, String query, boolean prefix, int limit) {
+    String q = query.toLowerCase(Locale.ROOT);
+    int maxDistance = maxDistance(q);
+
+    if (q.length() < MIN_QUERY_LENGTH || limit <= 0)
+      return List.of();
+
+    List<Map.Entry<T, Integer>> matches = new ArrayList<>();
+    for (T item : input) {
+      String candidate = nameOf.apply(item).toLowerCase(Locale.ROOT);
+      int distance = prefix ? prefixDistance(q, candidate, maxDistance) : distance(q, candidate, maxDistance);
+
+      if (distance <= maxDistance)
+        matches.add(Map.entry(item, distance));
+    }
+
+    matches.sort(
+      Map.Entry.<T, Integer>comparingByValue()
+        .thenComparing(e -> nameOf.apply(e.getKey()).length())
+        .thenComparing(e -> nameOf.apply(e.getKey()))
+    );
+
+    List<T> result = new ArrayList<>(Math.min(limit, matches.size()));
+    for (int i = 0; i < matches.size() && i < limit; i++)
+      result.add(matches.get(i).getKey());
+
+    return result;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Get the maximum edit distance a query tolerates, growing with it's length
+   * @param query Lowercased query
+   */
+  private static int maxDistance(String query) {
+    return query.length() <= 4 ? 1 : 2;
+  }
+
+  /**
+   * Get the distinct bigrams of a lowercased string, padded at it's edges
+   * @param s String to split
+   * @param prefix Whether the string is a prefix, which leaves it's end open
+   */
+  private static int[] grams(String s, boolean prefix) {
+    int n = s.length();
+    Set<Integer> grams = new LinkedHashSet<>();
+
+    char previous = BOUNDARY;
+    for (int i = 0; i < n; i++) {
+      char c = s.charAt(i);
+      grams.add((previous << 16) | c);
+      previous = c;
+    }
+
+    if (!prefix)
+      grams.add((previous << 16) | BOUNDARY);
+
+    int[] result = new int[grams.size()];
+    int i = 0;
+    for (int gram : grams)
+      result[i++] = gram;
+    return result;
+  }
+
+  /**
+   * Compute the edit distance between two strings, giving up once it exceeds a bound
+   * @param a First string
+   * @param b Second string
+   * @param max Bound to give up at
+   * @return Distance, or max + 1 if it exceeds the bound
+   */
+  private static int distance(String a, String b, int max) {
+    if (Math.abs(a.length() - b.length()) > max)
+      return max + 1;
+
+    int[] row = editRows(a, b, b.length(), max);
+    return row == null ? max + 1 : Math.min(row[b.length()], max + 1);
+  }
+
+  /**
+   * Compute the edit distance between a string and the closest prefix of
+   * another string, giving up once it exceeds a bound
+   * @param query Query, which is compared as a whole
+   * @param name Name, of which only the best matching prefix is compared
+   * @param max Bound to give up at
+   * @return Distance, or max + 1 if it exceeds the bound
+   */
+  private static int prefixDistance(String query, String name, int max) {
+    if (name.length() < query.length() - max)
+      return max + 1;
+
+    // Longer prefixes can't be any closer than this
+    int columns = Math.min(name.length(), query.length() + max);
+
+    int[] row = editRows(query, name, columns, max);
+    if (row == null)
+      return max + 1;
+
+    int best = max + 1;
+    for (int j = 0; j <= columns; j++)
+      best = Math.min(best, row[j]);
+    return best;
+  }
+
+  /**
+   * Compute the last row of the edit distance matrix of a string and a prefix of another
+   * @param a String to compare as a whole, one row per character
+   * @param b String to compare a prefix of, one column per character
+   * @param columns Length of the prefix of b
+   * @param max Bound to give up at
+   * @return Last row, null if a whole row exceeded the bound
+   */
+  private static int[] editRows(String a, String b, int columns, int max) {
+    int[] previous = new int[columns + 1];
+    int[] current = new int[columns + 1];
+
+    for (int j = 0; j <= columns; j++)
+      previous[j] = j;
+
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      int rowMin = i;
+      char ca = a.charAt(i - 1);
+
+      for (int j = 1; j <= columns; j++) {
+        int cost = ca == b.charAt(j - 1) ? 0 : 1;
+        current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+        rowMin = Math.min(rowMin, current[j]);
+      }
+
+      // No cell can ever get cheaper again
+      if (rowMin > max)
+        return null;
+
+      int[] temp = previous;
+      previous = current;
+      current = temp;
+    }
+
+    return previous;
+  }
+}
@@ -0,0 +1,160 @@
+package me.blvckbytes.bblibcmd;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Lock-free histogram of latencies in nanoseconds. Buckets are log-linear,
+  where each power of two is split into eight equally sized buckets, which
+  bounds the error of reported percentiles to 12.5% while recording stays
+  at a few atomic increments and never allocates.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LatencyRecorder {
+
+  // Number of linear sub-buckets per power of two, as a power of two
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder total;
+  private final LongAccumulator max;
+
+  public LatencyRecorder() {
+    this.buckets = new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    this.count = new LongAdder();
+    this.total = new LongAdder();
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Record a single latency
+   * @param nanos Latency in nanoseconds, negative values are clamped to zero
+   */
+  public void record(long nanos) {
+    if (nanos < 0)
+      nanos = 0;
+
+    buckets.incrementAndGet(bucketOf(nanos));
+    count.increment();
+    total.add(nanos);
+    max.accumulate(nanos);
+  }
+
+  /**
+   * Get the number of recorded latencies
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Get the sum of all recorded latencies in nanoseconds
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * Get the highest recorded latency in nanoseconds
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Get the mean of all recorded latencies in nanoseconds
+   */
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : (double) getTotal() / count;
+  }
+
+  /**
+   * Get a percentile of all recorded latencies, where the result is the
+   * upper bound of the bucket the percentile falls into
+   * @param percentile Percentile within [0;100]
+   * @return Latency in nanoseconds, zero if nothing has been recorded yet
+   */
+  public long getPercentile(double percentile) {
+    long[] snapshot = new long[buckets.length()];
+    long count = 0;
+
+    // Counts are read once, as they keep changing while reading
+    for (int i = 0; i < snapshot.length; i++) {
+      snapshot[i] = buckets.get(i);
+      count += snapshot[i];
+    }
+
+    if (count == 0)
+      return 0;
+
+    long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+    long seen = 0;
+
+    for (int i = 0; i < snapshot.length; i++) {
+      seen += snapshot[i];
+      if (seen >= rank)
+        return Math.min(upperBoundOf(i), getMax());
+    }
+
+    return getMax();
+  }
+
+  /**
+   * Clear all recorded latencies, where concurrent records may survive partially
+   */
+  public void reset() {
+    for (int i = 0; i < buckets.length(); i++)
+      buckets.set(i, 0);
+
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+
+  /**
+   * Get the bucket a latency falls into
+   * @param nanos Non-negative latency in nanoseconds
+   */
+  private static int bucketOf(long nanos) {
+    if (nanos < SUB_BUCKETS)
+      return (int) nanos;
+
+    int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+    int sub = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * Get the highest latency which still falls into a bucket
+   * @param bucket Index of the bucket
+   */
+  private static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS)
+      return bucket;
+
+    int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    int sub = bucket % SUB_BUCKETS;
+    long width = 1L << (magnitude - SUB_BUCKET_BITS);
+    long lower = (long) (SUB_BUCKETS + sub) << (magnitude - SUB_BUCKET_BITS);
+    return lower + width - 1;
+  }
+}
@@ -0,0 +1,624 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Keeps an in-memory index of the names of all players that have ever
+  played on this server, which allows for prefix and substring queries
+  that cost time proportional to the number of results taken.
+
+  The index consists of an immutable snapshot, which holds a sorted array
+  of lowercased names as well as a suffix array over these names, and a
+  small map of names that joined for the first time since the snapshot
+  has been built. Once that map grows too large, it's names are merged into
+  a new snapshot asynchronously, which is swapped in. Merging keeps the order
+  of the existing suffixes and only has to sort the suffixes of new names.
+
+  The first snapshot is built off the main thread when the index is created,
+  while online players are served from the pending map until it's ready.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class OfflinePlayerNameIndex implements Listener {
+
+  // Number of pending names which will cause a snapshot rebuild
+  private static final int REBUILD_THRESHOLD = 256;
+
+  // Suffix offsets are encoded into the lower bits of a suffix array entry
+  private static final int OFFSET_BITS = 5;
+  private static final int OFFSET_MASK = (1 << OFFSET_BITS) - 1;
+
+  private static OfflinePlayerNameIndex instance;
+
+  private final JavaPlugin plugin;
+
+  // Names which joined since the last snapshot, lowercased name -> name
+  private final ConcurrentSkipListMap<String, String> pending;
+  private final AtomicBoolean rebuilding;
+
+  private volatile Snapshot snapshot;
+
+  // Fuzzy index over the names of a snapshot, which lags behind while it's being built
+  private volatile FuzzyIndex fuzzyIndex;
+  private volatile Snapshot fuzzyIndexed;
+  private final AtomicBoolean fuzzyBuilding;
+
+  private OfflinePlayerNameIndex(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.pending = new ConcurrentSkipListMap<>();
+    this.rebuilding = new AtomicBoolean(false);
+    this.fuzzyIndex = FuzzyIndex.empty();
+    this.fuzzyBuilding = new AtomicBoolean(false);
+    this.snapshot = Snapshot.EMPTY;
+
+    for (Player p : Bukkit.getOnlinePlayers())
+      pending.putIfAbsent(p.getName().toLowerCase(Locale.ROOT), p.getName());
+
+    // Rebuilds have to wait until the first snapshot has been published
+    this.rebuilding.set(true);
+  }
+
+  /**
+   * Get the shared index instance, which is created and
+   * registered on the first call, and again once the plugin it's
+   * bound to has been disabled
+   * @param plugin Plugin to register the join listener with
+   */
+  public static synchronized OfflinePlayerNameIndex getInstance(JavaPlugin plugin) {
+    if (instance == null) {
+      instance = new OfflinePlayerNameIndex(plugin);
+      Bukkit.getPluginManager().registerEvents(instance, plugin);
+      Bukkit.getScheduler().runTaskAsynchronously(plugin, instance::build);
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Add a name to the index, if it's not yet known
+   * @param name Name to add
+   */
+  public void add(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+
+    if (snapshot.contains(lower))
+      return;
+
+    pending.putIfAbsent(lower, name);
+
+    if (pending.size() >= REBUILD_THRESHOLD && rebuilding.compareAndSet(false, true))
+      Bukkit.getScheduler().runTaskAsynchronously(plugin, this::rebuild);
+  }
+
+  /**
+   * Query all names which contain the provided query, ignoring casing. Names
+   * which start with the query are yielded first, the resulting stream is lazy
+   * and thus only costs as much as the number of elements actually consumed.
+   * @param matcher Matcher of the query to search for
+   * @param exclude Lowercased names to exclude, may be null
+   * @return Stream of matching names in their original casing
+   */
+  public Stream<String> query(SuggestionMatcher matcher, @Nullable Set<String> exclude) {
+    String lower = matcher.getLowerQuery();
+    Snapshot snap = this.snapshot;
+
+    Stream<Map.Entry<String, String>> res = prefixed(snap, lower);
+
+    // Every name contains the empty string, which the prefix results already cover
+    if (!lower.isEmpty())
+      res = Stream.concat(res, containing(snap, lower));
+
+    if (exclude != null && !exclude.isEmpty())
+      res = res.filter(e -> !exclude.contains(e.getKey()));
+
+    return res
+      .map(Map.Entry::getValue)
+      .distinct();
+  }
+
+  /**
+   * Add all names which contain the collector's query to the collector, ranked
+   * by where they match. Names which only contain the query are not even looked
+   * at if the collector is already full with exact and prefix matches.
+   * @param collector Collector to add to
+   * @param exclude Lowercased names to exclude, may be null
+   */
+  public void collect(SuggestionCollector collector, @Nullable Set<String> exclude) {
+    String lower = collector.getMatcher().getLowerQuery();
+    Snapshot snap = this.snapshot;
+    Set<String> seen = new HashSet<>();
+
+    // The exact match always goes first, there's at most one
+    String exact = snap.find(lower);
+    if (exact == null)
+      exact = pending.get(lower);
+
+    if (exact != null && (exclude == null || !exclude.contains(lower))) {
+      seen.add(lower);
+      collector.add(exact, SuggestionRank.EXACT);
+    }
+
+    Iterator<Map.Entry<String, String>> prefixed = prefixed(snap, lower).iterator();
+    while (prefixed.hasNext() && !collector.isFull(SuggestionRank.PREFIX)) {
+      Map.Entry<String, String> e = prefixed.next();
+
+      if ((exclude != null && exclude.contains(e.getKey())) || !seen.add(e.getKey()))
+        continue;
+
+      collector.add(e.getValue(), SuggestionRank.PREFIX);
+    }
+
+    // Every name contains the empty string, which the prefix results already cover
+    if (lower.isEmpty())
+      return;
+
+    Iterator<Map.Entry<String, String>> containing = containing(snap, lower).iterator();
+    while (containing.hasNext() && !collector.isFull(SuggestionRank.SUBSTRING)) {
+      Map.Entry<String, String> e = containing.next();
+
+      if ((exclude != null && exclude.contains(e.getKey())) || !seen.add(e.getKey()))
+        continue;
+
+      collector.add(e.getValue(), SuggestionRank.SUBSTRING);
+    }
+
+    if (collector.isFull(SuggestionRank.FUZZY))
+      return;
+
+    for (String name : getFuzzyIndex().search(lower, true, collector.getLimit())) {
+      String nameLower = name.toLowerCase(Locale.ROOT);
+
+      if ((exclude != null && exclude.contains(nameLower)) || !seen.add(nameLower))
+        continue;
+
+      if (!collector.add(name, SuggestionRank.FUZZY))
+        break;
+    }
+  }
+
+  /**
+   * Find the name of a player that has played before, ignoring casing
+   * @param name Name to search for
+   * @return Name in it's original casing, null if the name is unknown
+   */
+  public @Nullable String find(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+    String result = snapshot.find(lower);
+    return result == null ? pending.get(lower) : result;
+  }
+
+  /**
+   * Get the fuzzy index over all names, which is built off the main thread
+   * on demand and may thus lag behind or even be empty for a short while
+   */
+  public FuzzyIndex getFuzzyIndex() {
+    Snapshot snap = this.snapshot;
+
+    if (fuzzyIndexed != snap && fuzzyBuilding.compareAndSet(false, true)) {
+      Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        try {
+          this.fuzzyIndex = new FuzzyIndex(Arrays.asList(snap.names));
+          this.fuzzyIndexed = snap;
+        } finally {
+          fuzzyBuilding.set(false);
+        }
+      });
+    }
+
+    return fuzzyIndex;
+  }
+
+  /**
+   * Get the number of names currently known to this index
+   */
+  public int size() {
+    return snapshot.names.length + pending.size();
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    // Bukkit drops this listener, so the next caller has to bind a new index
+    synchronized (OfflinePlayerNameIndex.class) {
+      if (instance == this)
+        instance = null;
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onJoin(PlayerJoinEvent e) {
+    add(e.getPlayer().getName());
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Stream all names starting with the lowercased query, as lowercased name -> name
+   * @param snap Snapshot to query
+   * @param lower Lowercased query
+   */
+  private Stream<Map.Entry<String, String>> prefixed(Snapshot snap, String lower) {
+    return Stream.concat(
+      snap.prefixed(lower),
+      pending.subMap(lower, lower + Character.MAX_VALUE).entrySet().stream()
+    );
+  }
+
+  /**
+   * Stream all names containing the lowercased query past their
+   * first character, as lowercased name -> name
+   * @param snap Snapshot to query
+   * @param lower Lowercased query
+   */
+  private Stream<Map.Entry<String, String>> containing(Snapshot snap, String lower) {
+    return Stream.concat(
+      snap.containing(lower),
+      pending.entrySet().stream()
+        .filter(e -> e.getKey().indexOf(lower, 1) >= 0)
+    );
+  }
+
+  /**
+   * Build the first snapshot out of all names which ever joined, then publish it
+   * and drop the names it now contains from pending
+   */
+  private void build() {
+    try {
+      List<String> names = new ArrayList<>();
+      PlayerNameStore store = PlayerNameStore.getInstance(plugin);
+
+      // Reading the store is way cheaper than materializing all offline players
+      if (store.isAvailable())
+        store.forEach((name, id) -> names.add(name));
+
+      else {
+        for (OfflinePlayer op : Bukkit.getOfflinePlayers()) {
+          if (op.hasPlayedBefore() && op.getName() != null)
+            names.add(op.getName());
+        }
+      }
+
+      Snapshot snap = Snapshot.of(names);
+      this.snapshot = snap;
+
+      pending.entrySet().removeIf(e -> snap.contains(e.getKey()));
+    } finally {
+      rebuilding.set(false);
+    }
+
+    if (pending.size() >= REBUILD_THRESHOLD && rebuilding.compareAndSet(false, true))
+      rebuild();
+  }
+
+  /**
+   * Merge all pending names into a new snapshot, then publish it
+   * and drop the names it now contains from pending
+   */
+  private void rebuild() {
+    try {
+      Map<String, String> captured = new HashMap<>(pending);
+      this.snapshot = this.snapshot.merge(captured);
+
+      for (Map.Entry<String, String> e : captured.entrySet())
+        pending.remove(e.getKey(), e.getValue());
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  /**
+   * Compare two suffixes of strings lexicographically
+   * @param a First string
+   * @param ao Offset within the first string
+   * @param b Second string
+   * @param bo Offset within the second string
+   * @return Comparison result, see {@link Comparator#compare}
+   */
+  private static int compareSuffixes(String a, int ao, String b, int bo) {
+    int la = a.length() - ao, lb = b.length() - bo;
+    int n = Math.min(la, lb);
+
+    for (int i = 0; i < n; i++) {
+      int diff = a.charAt(ao + i) - b.charAt(bo + i);
+      if (diff != 0)
+        return diff;
+    }
+
+    return la - lb;
+  }
+
+  /**
+   * Compare two encoded suffixes of lowercased names
+   * @param lower Lowercased names the suffixes point into
+   * @param a First suffix
+   * @param b Second suffix
+   * @return Comparison result, see {@link Comparator#compare}
+   */
+  private static int compareEncoded(String[] lower, int a, int b) {
+    return compareSuffixes(
+      lower[a >>> OFFSET_BITS], a & OFFSET_MASK,
+      lower[b >>> OFFSET_BITS], b & OFFSET_MASK
+    );
+  }
+
+  /**
+   * Encode all suffixes (starting at offset one) of a selection of names
+   * @param lower Lowercased names
+   * @param indices Indices of the names to encode the suffixes of
+   * @return Unsorted, encoded suffixes
+   */
+  private static int[] encodeSuffixes(String[] lower, int[] indices) {
+    int count = 0;
+    for (int i : indices)
+      count += Math.max(0, Math.min(lower[i].length(), OFFSET_MASK + 1) - 1);
+
+    int[] result = new int[count];
+    int k = 0;
+
+    for (int i : indices) {
+      for (int o = 1; o < Math.min(lower[i].length(), OFFSET_MASK + 1); o++)
+        result[k++] = (i << OFFSET_BITS) | o;
+    }
+
+    return result;
+  }
+
+  /**
+   * Sort encoded suffixes in place, without boxing, by a bottom-up merge sort
+   * @param lower Lowercased names the suffixes point into
+   * @param suffixes Suffixes to sort
+   */
+  private static void sortSuffixes(String[] lower, int[] suffixes) {
+    int[] src = suffixes, dst = new int[suffixes.length];
+
+    for (int width = 1; width < suffixes.length; width <<= 1) {
+      for (int lo = 0; lo < suffixes.length; lo += width << 1) {
+        int mid = Math.min(lo + width, suffixes.length);
+        int hi = Math.min(lo + (width << 1), suffixes.length);
+        mergeSuffixes(lower, src, lo, mid, src, mid, hi, dst, lo);
+      }
+
+      int[] swap = src;
+      src = dst;
+      dst = swap;
+    }
+
+    if (src != suffixes)
+      System.arraycopy(src, 0, suffixes, 0, suffixes.length);
+  }
+
+  /**
+   * Merge two sorted runs of encoded suffixes into a destination
+   */
+  private static void mergeSuffixes(
+    String[] lower,
+    int[] a, int aFrom, int aTo,
+    int[] b, int bFrom, int bTo,
+    int[] dst, int dstFrom
+  ) {
+    int i = aFrom, j = bFrom, k = dstFrom;
+
+    while (i < aTo && j < bTo)
+      dst[k++] = compareEncoded(lower, a[i], b[j]) <= 0 ? a[i++] : b[j++];
+
+    while (i < aTo)
+      dst[k++] = a[i++];
+
+    while (j < bTo)
+      dst[k++] = b[j++];
+  }
+
+  /**
+   * An immutable, sorted view on a set of names
+   */
+  private static class Snapshot {
+
+    private static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new int[0]);
+
+    // Lowercased names, sorted, with their original casing at the same index
+    private final String[] lower;
+    private final String[] names;
+
+    // All suffixes (starting at offset one) of all lowercased names, sorted
+    private final int[] suffixes;
+
+    private Snapshot(String[] lower, String[] names, int[] suffixes) {
+      this.lower = lower;
+      this.names = names;
+      this.suffixes = suffixes;
+    }
+
+    /**
+     * Build a snapshot from scratch
+     * @param input Names to contain
+     */
+    public static Snapshot of(Collection<String> input) {
+      TreeMap<String, String> sorted = new TreeMap<>();
+      for (String name : input)
+        sorted.putIfAbsent(name.toLowerCase(Locale.ROOT), name);
+
+      String[] lower = sorted.keySet().toArray(new String[0]);
+      String[] names = sorted.values().toArray(new String[0]);
+
+      int[] suffixes = encodeSuffixes(lower, IntStream.range(0, lower.length).toArray());
+      sortSuffixes(lower, suffixes);
+
+      return new Snapshot(lower, names, suffixes);
+    }
+
+    /**
+     * Merge names into a copy of this snapshot, where the existing suffixes keep their
+     * order and only have to be renumbered, so only the new suffixes need to be sorted
+     * @param added Names to add, as lowercased name -> name
+     * @return Merged snapshot, this instance if there was nothing new
+     */
+    public Snapshot merge(Map<String, String> added) {
+      TreeMap<String, String> fresh = new TreeMap<>();
+      for (Map.Entry<String, String> e : added.entrySet()) {
+        if (!contains(e.getKey()))
+          fresh.putIfAbsent(e.getKey(), e.getValue());
+      }
+
+      if (fresh.isEmpty())
+        return this;
+
+      int size = lower.length + fresh.size();
+      String[] mergedLower = new String[size];
+      String[] mergedNames = new String[size];
+
+      // New index of every existing name, and indices of all fresh names
+      int[] renumbered = new int[lower.length];
+      int[] freshIndices = new int[fresh.size()];
+
+      Iterator<Map.Entry<String, String>> it = fresh.entrySet().iterator();
+      Map.Entry<String, String> next = it.next();
+      int i = 0, f = 0;
+
+      for (int k = 0; k < size; k++) {
+        if (next != null && (i == lower.length || next.getKey().compareTo(lower[i]) < 0)) {
+          mergedLower[k] = next.getKey();
+          mergedNames[k] = next.getValue();
+          freshIndices[f++] = k;
+          next = it.hasNext() ? it.next() : null;
+          continue;
+        }
+
+        mergedLower[k] = lower[i];
+        mergedNames[k] = names[i];
+        renumbered[i++] = k;
+      }
+
+      int[] existing = new int[suffixes.length];
+      for (int k = 0; k < suffixes.length; k++) {
+        int s = suffixes[k];
+        existing[k] = (renumbered[s >>> OFFSET_BITS] << OFFSET_BITS) | (s & OFFSET_MASK);
+      }
+
+      int[] additional = encodeSuffixes(mergedLower, freshIndices);
+      sortSuffixes(mergedLower, additional);
+
+      int[] merged = new int[existing.length + additional.length];
+      mergeSuffixes(mergedLower, existing, 0, existing.length, additional, 0, additional.length, merged, 0);
+
+      return new Snapshot(mergedLower, mergedNames, merged);
+    }
+
+    /**
+     * Check whether the lowercased name is contained
+     */
+    public boolean contains(String lower) {
+      return Arrays.binarySearch(this.lower, lower) >= 0;
+    }
+
+    /**
+     * Find a name by it's lowercased representation
+     * @return Name in it's original casing, null if not contained
+     */
+    public @Nullable String find(String lower) {
+      int index = Arrays.binarySearch(this.lower, lower);
+      return index < 0 ? null : names[index];
+    }
+
+    /**
+     * Stream all names starting with the lowercased query, sorted, as lowercased name -> name
+     */
+    public Stream<Map.Entry<String, String>> prefixed(String query) {
+      int lo = lowerBound(query);
+      return IntStream.range(lo, lower.length)
+        .takeWhile(i -> lower[i].startsWith(query))
+        .mapToObj(this::entry);
+    }
+
+    /**
+     * Stream all names containing the lowercased query past their first
+     * character, as lowercased name -> name
+     */
+    public Stream<Map.Entry<String, String>> containing(String query) {
+      int lo = suffixLowerBound(query);
+      return IntStream.range(lo, suffixes.length)
+        .takeWhile(i -> {
+          int s = suffixes[i];
+          return lower[s >>> OFFSET_BITS].startsWith(query, s & OFFSET_MASK);
+        })
+        .mapToObj(i -> entry(suffixes[i] >>> OFFSET_BITS));
+    }
+
+    /**
+     * Get the name at an index as lowercased name -> name
+     */
+    private Map.Entry<String, String> entry(int index) {
+      return new AbstractMap.SimpleImmutableEntry<>(lower[index], names[index]);
+    }
+
+    /**
+     * Find the index of the first name which is greater than or equal to the query
+     */
+    private int lowerBound(String query) {
+      int lo = 0, hi = lower.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (lower[mid].compareTo(query) < 0)
+          lo = mid + 1;
+        else
+          hi = mid;
+      }
+      return lo;
+    }
+
+    /**
+     * Find the index of the first suffix which is greater than or equal to the query
+     */
+    private int suffixLowerBound(String query) {
+      int lo = 0, hi = suffixes.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        int s = suffixes[mid];
+        if (compareSuffixes(lower[s >>> OFFSET_BITS], s & OFFSET_MASK, query, 0) < 0)
+          lo = mid + 1;
+        else
+          hi = mid;
+      }
+      return lo;
+    }
+  }
+}
@@ -0,0 +1,369 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Keeps all online players sorted by their lowercased names and their
+  lowercased display names without colors, so that prefix queries only
+  visit matching players. It's maintained through join and quit events,
+  while display names are synchronized periodically, as there is no
+  event for when they change.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class OnlinePlayerIndex implements Listener {
+
+  // Interval of display name synchronizations, in ticks
+  private static final long DISPLAY_SYNC_TICKS = 20;
+
+  private static OnlinePlayerIndex instance;
+
+  // Plugin this index is bound to, until it disables
+  private final JavaPlugin plugin;
+
+  // Lowercased name -> entry
+  private final ConcurrentSkipListMap<String, Entry> byName;
+
+  // Lowercased display name, NUL, UUID -> entry, as display names may collide
+  private final ConcurrentSkipListMap<String, Entry> byDisplayName;
+
+  // UUID -> entry, to find the keys of a player again
+  private final Map<UUID, Entry> byId;
+
+  private OnlinePlayerIndex(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.byName = new ConcurrentSkipListMap<>();
+    this.byDisplayName = new ConcurrentSkipListMap<>();
+    this.byId = new ConcurrentHashMap<>();
+
+    for (Player p : Bukkit.getOnlinePlayers())
+      add(p);
+  }
+
+  /**
+   * Get the shared index instance, which is created and
+   * registered on the first call, and again once the plugin it's
+   * bound to has been disabled
+   * @param plugin Plugin to register the listener and the synchronization with
+   */
+  public static synchronized OnlinePlayerIndex getInstance(JavaPlugin plugin) {
+    if (instance == null) {
+      instance = new OnlinePlayerIndex(plugin);
+      Bukkit.getPluginManager().registerEvents(instance, plugin);
+      Bukkit.getScheduler().runTaskTimer(plugin, instance::syncDisplayNames, DISPLAY_SYNC_TICKS, DISPLAY_SYNC_TICKS);
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Query all players whose display name contains the query, ignoring casing
+   * and colors. Players whose display name starts with the query are yielded
+   * first, the resulting stream is lazy and only checks the visibility of the
+   * elements which are actually consumed.
+   * @param matcher Matcher of the query to search for
+   * @param viewer Player which has to be able to see the results, null to not filter
+   * @param exclude UUIDs of players to exclude, may be null
+   * @return Stream of matching display names without colors
+   */
+  public Stream<String> query(SuggestionMatcher matcher, @Nullable Player viewer, @Nullable Set<UUID> exclude) {
+    String lower = matcher.getLowerQuery();
+
+    Stream<Entry> res = prefixed(lower).values().stream();
+
+    // Every name contains the empty string, which the prefix results already cover
+    if (!lower.isEmpty()) {
+      res = Stream.concat(res, byDisplayName.values().stream()
+        .filter(e -> !e.lowerDisplayName.startsWith(lower) && e.lowerDisplayName.contains(lower)));
+    }
+
+    return res
+      .filter(e -> exclude == null || !exclude.contains(e.id))
+      .filter(e -> viewer == null || viewer.canSee(e.player))
+      .map(e -> e.displayName);
+  }
+
+  /**
+   * Add all display names which contain the collector's query to the collector,
+   * ranked by where they match, followed by near-matches of typos. The visibility
+   * of a player is checked while scanning, and a display name which multiple
+   * players share is only suggested once.
+   * @param collector Collector to add to
+   * @param viewer Player which has to be able to see the results, null to not filter
+   * @param exclude UUIDs of players to exclude, may be null
+   */
+  public void collect(SuggestionCollector collector, @Nullable Player viewer, @Nullable Set<UUID> exclude) {
+    String lower = collector.getMatcher().getLowerQuery();
+
+    // Players may share a display name, which is only suggested once, as equal names are adjacent
+    String previous = null;
+
+    for (Entry e : prefixed(lower).values()) {
+      SuggestionRank rank = e.lowerDisplayName.equals(lower) ? SuggestionRank.EXACT : SuggestionRank.PREFIX;
+
+      if (collector.isFull(rank))
+        break;
+
+      if (e.displayName.equals(previous) || isHidden(e, viewer, exclude))
+        continue;
+
+      previous = e.displayName;
+
+      if (!collector.add(e.displayName, rank))
+        return;
+    }
+
+    // Every name contains the empty string, which the prefix results already cover
+    if (lower.isEmpty())
+      return;
+
+    previous = null;
+
+    for (Entry e : byDisplayName.values()) {
+      if (e.lowerDisplayName.startsWith(lower) || !e.lowerDisplayName.contains(lower))
+        continue;
+
+      // Typos won't be looked at either once the collector is full
+      if (collector.isFull(SuggestionRank.SUBSTRING))
+        return;
+
+      if (e.displayName.equals(previous) || isHidden(e, viewer, exclude))
+        continue;
+
+      previous = e.displayName;
+      collector.add(e.displayName, SuggestionRank.SUBSTRING);
+    }
+
+    if (collector.isFull(SuggestionRank.FUZZY))
+      return;
+
+    // Near-matches of typos among visible players, online players are few enough to not need an index
+    Iterable<Entry> mismatches = () -> byDisplayName.values().stream()
+      .filter(e -> !e.lowerDisplayName.contains(lower) && !isHidden(e, viewer, exclude))
+      .iterator();
+
+    previous = null;
+
+    for (Entry e : FuzzyIndex.scan(mismatches, entry -> entry.displayName, collector.getMatcher().getQuery(), true, collector.getLimit())) {
+      if (e.displayName.equals(previous))
+        continue;
+
+      previous = e.displayName;
+
+      if (!collector.add(e.displayName, SuggestionRank.FUZZY))
+        return;
+    }
+  }
+
+  /**
+   * Resolve an online player which the viewer can see, ignoring casing. Real names
+   * are preferred, then display names without colors, which only match exactly and
+   * never if they equal an online player's real name, so they can't be used to pose
+   * as someone else. Otherwise, the input may be the prefix of exactly one real name.
+   * @param input Typed out name or prefix
+   * @param viewer Player which has to be able to see the result, null to not filter
+   * @return Resolved player, null if there's no or no unique match
+   */
+  public @Nullable Player resolve(String input, @Nullable Player viewer) {
+    String lower = input.toLowerCase(Locale.ROOT);
+
+    Entry exact = byName.get(lower);
+    if (exact != null)
+      return isHidden(exact, viewer, null) ? null : exact.player;
+
+    Entry res = unique(byDisplayName.subMap(lower + '\0', lower + '\1'), viewer);
+    if (res != null)
+      return res.player;
+
+    res = unique(byName.subMap(lower, lower + Character.MAX_VALUE), viewer);
+    return res == null ? null : res.player;
+  }
+
+  /**
+   * Update the display name of a player within the index, which should
+   * be called right after changing it, as it's otherwise only picked
+   * up by the next periodic synchronization
+   * @param player Target player
+   */
+  public synchronized void refresh(Player player) {
+    Entry current = byId.get(player.getUniqueId());
+
+    if (current != null && current.rawDisplayName.equals(player.getDisplayName()))
+      return;
+
+    remove(player.getUniqueId());
+    add(player);
+  }
+
+  /**
+   * Get the number of indexed players
+   */
+  public int size() {
+    return byId.size();
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    // Bukkit drops this listener, so the next caller has to bind a new index
+    synchronized (OnlinePlayerIndex.class) {
+      if (instance == this)
+        instance = null;
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onJoin(PlayerJoinEvent e) {
+    refresh(e.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(PlayerQuitEvent e) {
+    remove(e.getPlayer().getUniqueId());
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Pick up display names which have been changed since the last synchronization
+   */
+  private void syncDisplayNames() {
+    for (Player p : Bukkit.getOnlinePlayers())
+      refresh(p);
+  }
+
+  /**
+   * Add a player to all maps
+   * @param player Player to add
+   */
+  private synchronized void add(Player player) {
+    Entry e = new Entry(player);
+    byId.put(e.id, e);
+    byName.put(e.lowerName, e);
+    byDisplayName.put(e.displayKey, e);
+  }
+
+  /**
+   * Remove a player from all maps
+   * @param id UUID of the player to remove
+   */
+  private synchronized void remove(UUID id) {
+    Entry e = byId.remove(id);
+
+    if (e == null)
+      return;
+
+    byName.remove(e.lowerName, e);
+    byDisplayName.remove(e.displayKey, e);
+  }
+
+  /**
+   * Get all entries whose display name starts with a lowercased prefix, sorted
+   * @param lower Lowercased prefix
+   */
+  private ConcurrentNavigableMap<String, Entry> prefixed(String lower) {
+    return byDisplayName.subMap(lower, lower + Character.MAX_VALUE);
+  }
+
+  /**
+   * Get the only entry of a range which the viewer can see
+   * @param range Range to get from
+   * @param viewer Viewing player, null if everyone is visible
+   * @return Only visible entry, null if there are none or multiple
+   */
+  private @Nullable Entry unique(ConcurrentNavigableMap<String, Entry> range, @Nullable Player viewer) {
+    Entry result = null;
+
+    for (Entry e : range.values()) {
+      if (isHidden(e, viewer, null))
+        continue;
+
+      if (result != null)
+        return null;
+
+      result = e;
+    }
+
+    return result;
+  }
+
+  /**
+   * Check whether an entry should not be suggested to a viewer
+   * @param e Entry to check
+   * @param viewer Viewing player, null if everyone is visible
+   * @param exclude UUIDs of excluded players, may be null
+   */
+  private boolean isHidden(Entry e, @Nullable Player viewer, @Nullable Set<UUID> exclude) {
+    if (exclude != null && exclude.contains(e.id))
+      return true;
+
+    return viewer != null && !viewer.canSee(e.player);
+  }
+
+  /**
+   * A single indexed player
+   */
+  private static class Entry {
+
+    private final Player player;
+    private final UUID id;
+    private final String lowerName;
+    private final String rawDisplayName;
+    private final String displayName;
+    private final String lowerDisplayName;
+    private final String displayKey;
+
+    public Entry(Player player) {
+      this.player = player;
+      this.id = player.getUniqueId();
+      this.lowerName = player.getName().toLowerCase(Locale.ROOT);
+      this.rawDisplayName = player.getDisplayName();
+
+      String stripped = ChatColor.stripColor(rawDisplayName);
+      this.displayName = stripped == null || stripped.isBlank() ? player.getName() : stripped;
+      this.lowerDisplayName = displayName.toLowerCase(Locale.ROOT);
+      this.displayKey = lowerDisplayName + '\0' + id;
+    }
+  }
+}
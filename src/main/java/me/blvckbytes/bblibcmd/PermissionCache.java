@@ -0,0 +1,187 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Caches permission decisions per player, so that permission plugins which
+  resolve through inheritance trees only get asked once per distinct node.
+
+  Bukkit doesn't announce permission recalculations, so decisions are
+  dropped on join, quit and world change, after a maximum age and whenever
+  invalidate is called, which permission plugin hooks are meant to do.
+  Stale decisions may only ever hide or show a suggestion, which is why
+  this cache is only used for completions, while executions check live.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PermissionCache implements Listener {
+
+  // Maximum age of a player's decisions before they're asked for again
+  private static final long MAX_AGE_MS = 5000;
+
+  private static PermissionCache instance;
+
+  // Plugin this cache is bound to, until it disables
+  private final JavaPlugin plugin;
+
+  // Cached decisions per player
+  private final Map<UUID, Decisions> decisions;
+
+  private final LongAdder hits, misses;
+
+  private PermissionCache(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.decisions = new ConcurrentHashMap<>();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * Get the shared cache instance, which is created and
+   * registered on the first call, and again once the plugin it's
+   * bound to has been disabled
+   * @param plugin Plugin to register the invalidation listener with
+   */
+  public static synchronized PermissionCache getInstance(JavaPlugin plugin) {
+    if (instance == null) {
+      instance = new PermissionCache(plugin);
+      Bukkit.getPluginManager().registerEvents(instance, plugin);
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Check whether a player has a permission, answered from the cache if possible
+   * @param p Target player
+   * @param permission Permission to check
+   * @return True if the player has the permission, false otherwise
+   */
+  public boolean hasPermission(Player p, String permission) {
+    long now = System.currentTimeMillis();
+
+    Decisions playerDecisions = decisions.get(p.getUniqueId());
+
+    // Start out fresh if there are no decisions yet or they're too old
+    if (playerDecisions == null || now - playerDecisions.createdAt > MAX_AGE_MS) {
+      playerDecisions = new Decisions(now);
+      decisions.put(p.getUniqueId(), playerDecisions);
+    }
+
+    Boolean decision = playerDecisions.values.get(permission);
+    if (decision != null) {
+      hits.increment();
+      return decision;
+    }
+
+    misses.increment();
+    decision = p.hasPermission(permission);
+    playerDecisions.values.put(permission, decision);
+    return decision;
+  }
+
+  /**
+   * Drop all cached decisions of a player
+   * @param player Target player's UUID
+   */
+  public void invalidate(UUID player) {
+    decisions.remove(player);
+  }
+
+  /**
+   * Drop all cached decisions of all players
+   */
+  public void invalidateAll() {
+    decisions.clear();
+  }
+
+  /**
+   * Get the number of checks which have been answered from the cache
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of checks which had to be forwarded to the player
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    // Bukkit drops this listener, so the next caller has to bind a new cache
+    synchronized (PermissionCache.class) {
+      if (instance == this)
+        instance = null;
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onJoin(PlayerJoinEvent e) {
+    invalidate(e.getPlayer().getUniqueId());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(PlayerQuitEvent e) {
+    invalidate(e.getPlayer().getUniqueId());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldChange(PlayerChangedWorldEvent e) {
+    invalidate(e.getPlayer().getUniqueId());
+  }
+
+  /**
+   * Decisions of a single player
+   */
+  private static class Decisions {
+
+    private final long createdAt;
+    private final Map<String, Boolean> values;
+
+    public Decisions(long createdAt) {
+      this.createdAt = createdAt;
+      this.values = new ConcurrentHashMap<>();
+    }
+  }
+}
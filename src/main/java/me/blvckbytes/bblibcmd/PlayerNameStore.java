@@ -0,0 +1,937 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Persists the UUIDs of all players which have ever joined by their names
+  inside the plugin's data folder, so that resolving a name is a probe into
+  a memory-mapped hash table instead of a scan over all offline players.
+
+  Joining players are appended to a log of records, which is the only source
+  of truth and is never rewritten. A later record of the same UUID supersedes
+  the name of an earlier one, so old names stop resolving after a rename. The
+  hash table only indexes the log up to a certain record and is rebuilt off
+  the main thread once enough records have been appended since, while those
+  are kept in memory until then. Appending, syncing and rebuilding all happen
+  on a single writer thread, so joins never wait on the disk. All plugins share
+  one store in the library's own folder within the plugins folder, no matter
+  which of them it's currently bound to.
+
+  Opening the log, replaying it's tail and seeding it from the server's offline
+  players once, when it doesn't exist yet, also happen on the writer, while
+  lookups fall back to scanning until it's open. A missing or broken index is simply rebuilt from the log. Every
+  index is written into a new file named by the number of records it covers,
+  as a file which is still mapped can't be replaced on every platform.
+
+  Log layout: records of the UUID, the name's length, the name's ASCII bytes
+  and a checksum, where a torn record at the end is cut off when opening.
+  Index layout: a header of magic, version, capacity and the number of indexed
+  records, followed by slots of the name's hash and the record's number plus
+  one (zero marks a free slot). Names keep their casing, but are hashed and
+  compared while ignoring it.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PlayerNameStore implements Listener {
+
+  // Folder next to the plugins' data folders, so the store doesn't move with the plugin it's bound to
+  private static final String FOLDER_NAME = "bblibcmd";
+
+  private static final String LOG_FILE_NAME = "player-names.log";
+  private static final String INDEX_FILE_PREFIX = "player-names.";
+  private static final String INDEX_FILE_SUFFIX = ".idx";
+
+  private static final int MAGIC = 0x424E5332;
+  private static final int VERSION = 2;
+
+  // Minecraft names are at most 16 ASCII characters long
+  private static final int MAX_NAME_LENGTH = 16;
+
+  // UUID, length, name, padding, checksum
+  private static final int RECORD_SIZE = 40;
+  private static final int OFFSET_LENGTH = 16;
+  private static final int OFFSET_NAME = 17;
+  private static final int OFFSET_CHECKSUM = 36;
+
+  // Hash, record number plus one
+  private static final int HEADER_SIZE = 16;
+  private static final int SLOT_SIZE = 8;
+  private static final int MIN_CAPACITY = 1024;
+
+  // Minimum number of records kept in memory before the index is rebuilt
+  private static final int MIN_PENDING_RECORDS = 256;
+
+  // Number of records read from the log at once when replaying it
+  private static final int REPLAY_BATCH = 1024;
+
+  // Maximum time the disable hook waits for pending writes
+  private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+  private static PlayerNameStore instance;
+
+  private final JavaPlugin plugin;
+  private final File dataFolder, logFile;
+  private final ThreadPoolExecutor writer;
+
+  // Null if the log couldn't be opened, in which case nothing is stored
+  private @Nullable FileChannel log;
+
+  // Mapped index and the mapped part of the log it covers, null if there's no index yet
+  private @Nullable File indexFile;
+  private @Nullable MappedByteBuffer index;
+  private @Nullable MappedByteBuffer indexedLog;
+  private int capacity, indexedRecords;
+
+  // Number of records within the log, including those which are still being written
+  private int records;
+
+  // Records which are not indexed yet, by lowercased name and by UUID
+  private final Map<String, Record> pendingByName;
+  private final Map<UUID, Record> pendingById;
+
+  private boolean rebuildQueued;
+
+  // Whether the log is still being opened on the writer, while lookups fall back to scanning
+  private boolean opening;
+
+  // Players which joined while opening, recorded once the log is open, by UUID
+  private final Map<UUID, String> joinedWhileOpening;
+
+  // Whether the store has been closed for good, so a late open doesn't publish it's log
+  private boolean closed;
+
+  private PlayerNameStore(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.dataFolder = new File(plugin.getDataFolder().getParentFile(), FOLDER_NAME);
+    this.logFile = new File(dataFolder, LOG_FILE_NAME);
+    this.pendingByName = new HashMap<>();
+    this.pendingById = new HashMap<>();
+    this.joinedWhileOpening = new LinkedHashMap<>();
+
+    this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+      Thread t = new Thread(r, "bblibcmd-player-names");
+      t.setDaemon(true);
+      return t;
+    });
+
+    // Players who are already online are recorded like joining players
+    this.opening = true;
+    for (Player p : Bukkit.getOnlinePlayers())
+      joinedWhileOpening.put(p.getUniqueId(), p.getName());
+
+    // Replaying and seeding the log scale with all players, so keep them off the main thread
+    writer.execute(this::open);
+  }
+
+  /**
+   * Get the shared store instance, which is created and
+   * registered on the first call, and again once the plugin it's
+   * bound to has been disabled
+   * @param plugin Plugin to store the files with and to register the listener with
+   */
+  public static synchronized PlayerNameStore getInstance(JavaPlugin plugin) {
+    if (instance == null) {
+      instance = new PlayerNameStore(plugin);
+      Bukkit.getPluginManager().registerEvents(instance, plugin);
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Find the UUID of a player that has played before by their current name, ignoring casing
+   * @param name Name to search for
+   * @return UUID of the player, null if the name is unknown or can't be stored
+   */
+  public synchronized @Nullable UUID find(String name) {
+    if (opening || log == null || !isStorable(name))
+      return null;
+
+    Record record = lookup(name);
+    return record == null ? null : record.id;
+  }
+
+  /**
+   * Record the UUID of a player's name, where a name which moved on to another
+   * player will point at the new owner and the player's previous name will no
+   * longer resolve from now on. Only queues the write, if anything changed.
+   * @param name Name of the player
+   * @param id UUID of the player
+   */
+  public synchronized void put(String name, UUID id) {
+    if (!isStorable(name))
+      return;
+
+    if (opening) {
+      joinedWhileOpening.put(id, name);
+      return;
+    }
+
+    record(name, id);
+  }
+
+  /**
+   * Append a record of a name's UUID, if anything changed, which may only be called once opened
+   * @param name Name of the player
+   * @param id UUID of the player
+   */
+  private void record(String name, UUID id) {
+    if (log == null)
+      return;
+
+    // Also picks up changes in casing
+    Record current = lookup(name);
+    if (current != null && current.id.equals(id) && current.name.equals(name))
+      return;
+
+    Record record = new Record(records++, name, id);
+    remember(record, pendingByName, pendingById);
+
+    ByteBuffer encoded = encode(record);
+    writer.execute(() -> append(record.number, encoded));
+
+    if (!rebuildQueued && pendingById.size() >= Math.max(MIN_PENDING_RECORDS, indexedRecords / 4))
+      queueRebuild();
+  }
+
+  /**
+   * Call a consumer for every stored current name and it's UUID, as of the
+   * time of the call, without blocking the store while iterating
+   * @param consumer Consumer of names and UUIDs
+   */
+  public void forEach(BiConsumer<String, UUID> consumer) {
+    MappedByteBuffer index, indexedLog;
+    int capacity;
+    Map<String, Record> pendingByName;
+    Map<UUID, Record> pendingById;
+
+    // Only take a snapshot while holding the lock, as the mapped index never changes
+    // once it's been published and lookups on the main thread must not wait for the scan
+    synchronized (this) {
+      if (opening || log == null)
+        return;
+
+      index = this.index;
+      indexedLog = this.indexedLog;
+      capacity = this.capacity;
+      pendingByName = new HashMap<>(this.pendingByName);
+      pendingById = new HashMap<>(this.pendingById);
+    }
+
+    if (index != null && indexedLog != null) {
+      for (int i = 0; i < capacity; i++) {
+        int number = index.getInt(HEADER_SIZE + i * SLOT_SIZE + 4) - 1;
+
+        if (number < 0)
+          continue;
+
+        Record record = readRecord(indexedLog, number);
+
+        // Superseded by a record which is not indexed yet
+        if (record == null || pendingById.containsKey(record.id) || pendingByName.containsKey(record.lowerName()))
+          continue;
+
+        consumer.accept(record.name, record.id);
+      }
+    }
+
+    for (Record record : pendingByName.values()) {
+      if (pendingById.get(record.id) == record)
+        consumer.accept(record.name, record.id);
+    }
+  }
+
+  /**
+   * Whether the store is backed by it's files, otherwise lookups have to fall back to scanning
+   */
+  public synchronized boolean isAvailable() {
+    return !opening && log != null;
+  }
+
+  /**
+   * Whether a name fits into a record of the store
+   * @param name Name to check
+   */
+  public static boolean isStorable(String name) {
+    if (name.isEmpty() || name.length() > MAX_NAME_LENGTH)
+      return false;
+
+    for (int i = 0; i < name.length(); i++) {
+      if (name.charAt(i) >= 128)
+        return false;
+    }
+
+    return true;
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onJoin(PlayerJoinEvent e) {
+    Player p = e.getPlayer();
+    put(p.getName(), p.getUniqueId());
+  }
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    // Let queued appends finish, a rebuild which doesn't is just redone on the next start
+    writer.shutdown();
+
+    try {
+      if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+        plugin.getLogger().warning("The player name store did not finish writing in time");
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    synchronized (this) {
+      close();
+    }
+
+    // Bukkit drops this listener, so the next caller has to bind a new store
+    synchronized (PlayerNameStore.class) {
+      if (instance == this)
+        instance = null;
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Open the log, cut off a torn record, map the index and keep all records it
+   * doesn't cover in memory, seeding the log if it didn't exist yet. Runs on the
+   * writer and only holds the lock to publish, so lookups never wait on the disk.
+   */
+  private void open() {
+    try {
+      if (!dataFolder.exists() && !dataFolder.mkdirs())
+        throw new IOException("Could not create the directory " + dataFolder);
+
+      boolean seed = !logFile.exists();
+      FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+      int count = (int) (channel.size() / RECORD_SIZE);
+
+      // Only the last record can be torn, as records are only ever appended
+      if (count > 0 && readRecord(read(channel, count - 1, 1), 0) == null)
+        count--;
+
+      if (channel.size() != (long) count * RECORD_SIZE) {
+        plugin.getLogger().warning("Cutting off a torn record of the player name store at " + logFile);
+        channel.truncate((long) count * RECORD_SIZE);
+      }
+
+      int covered;
+
+      synchronized (this) {
+        // Disabled before the writer got to open the log
+        if (closed) {
+          channel.close();
+          return;
+        }
+
+        log = channel;
+        records = count;
+        openIndex();
+        covered = indexedRecords;
+      }
+
+      Map<String, Record> replayedByName = new HashMap<>();
+      Map<UUID, Record> replayedById = new HashMap<>();
+      replay(channel, covered, count, replayedByName, replayedById);
+
+      List<OfflinePlayer> seeded = seed ? collectSeed() : List.of();
+
+      synchronized (this) {
+        // Closed while opening
+        if (log != channel)
+          return;
+
+        pendingByName.putAll(replayedByName);
+        pendingById.putAll(replayedById);
+        opening = false;
+
+        for (OfflinePlayer op : seeded) {
+          String name = op.getName();
+          if (name != null && isStorable(name))
+            record(name, op.getUniqueId());
+        }
+
+        for (Map.Entry<UUID, String> joined : joinedWhileOpening.entrySet())
+          record(joined.getValue(), joined.getKey());
+
+        joinedWhileOpening.clear();
+
+        if (indexedRecords < records)
+          queueRebuild();
+      }
+    } catch (IOException e) {
+      synchronized (this) {
+        plugin.getLogger().log(Level.WARNING, "Could not open the player name store at " + logFile + ", falling back to scanning", e);
+        opening = false;
+        joinedWhileOpening.clear();
+        close();
+      }
+    }
+  }
+
+  /**
+   * Collect all players to seed the log with, which is expensive,
+   * but only happens once the log doesn't exist yet
+   */
+  private static List<OfflinePlayer> collectSeed() {
+    List<OfflinePlayer> players = new ArrayList<>();
+
+    for (OfflinePlayer op : Bukkit.getOfflinePlayers()) {
+      if (op.hasPlayedBefore() && op.getName() != null)
+        players.add(op);
+    }
+
+    return players;
+  }
+
+  /**
+   * Map the intact index which covers the most records, then delete all other indices
+   */
+  private void openIndex() {
+    unmapIndex();
+
+    File[] candidates = dataFolder.listFiles((dir, name) -> indexGeneration(name) >= 0);
+    if (candidates == null)
+      return;
+
+    Arrays.sort(candidates, Comparator.comparingInt((File f) -> indexGeneration(f.getName())).reversed());
+
+    for (File candidate : candidates) {
+      if (indexGeneration(candidate.getName()) <= records && mapIndex(candidate))
+        break;
+    }
+
+    if (index == null && candidates.length > 0)
+      plugin.getLogger().warning("There is no intact player name index in " + dataFolder + ", rebuilding it from the log");
+
+    deleteStaleIndices();
+  }
+
+  /**
+   * Map an index file and the part of the log it covers, if it's intact
+   * @param file Index file to map
+   * @return True if the index has been mapped, false if it's not intact
+   */
+  private boolean mapIndex(File file) {
+    if (log == null)
+      return false;
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE)
+        return false;
+
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      int storedCapacity = buffer.getInt(8);
+      int storedRecords = buffer.getInt(12);
+
+      boolean intact = (
+        buffer.getInt(0) == MAGIC &&
+        buffer.getInt(4) == VERSION &&
+        Integer.bitCount(storedCapacity) == 1 &&
+        channel.size() == HEADER_SIZE + (long) storedCapacity * SLOT_SIZE &&
+        storedRecords == indexGeneration(file.getName()) && storedRecords <= records
+      );
+
+      if (!intact)
+        return false;
+
+      indexedLog = log.map(FileChannel.MapMode.READ_ONLY, 0, (long) storedRecords * RECORD_SIZE);
+      index = buffer;
+      indexFile = file;
+      capacity = storedCapacity;
+      indexedRecords = storedRecords;
+      return true;
+    } catch (IOException e) {
+      plugin.getLogger().log(Level.WARNING, "Could not map the player name index at " + file, e);
+      return false;
+    }
+  }
+
+  /**
+   * Forget about the mapped index, if any
+   */
+  private void unmapIndex() {
+    indexFile = null;
+    index = null;
+    indexedLog = null;
+    capacity = 0;
+    indexedRecords = 0;
+  }
+
+  /**
+   * Delete all index files except the mapped one, where files which are still
+   * mapped on some platforms are left behind until the next attempt
+   */
+  private void deleteStaleIndices() {
+    File[] files = dataFolder.listFiles((dir, name) -> (
+      indexGeneration(name) >= 0 || name.startsWith(INDEX_FILE_PREFIX) && name.endsWith(INDEX_FILE_SUFFIX + ".tmp")
+    ));
+
+    if (files == null)
+      return;
+
+    for (File file : files) {
+      if (file.equals(indexFile))
+        continue;
+
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException ignored) {}
+    }
+  }
+
+  /**
+   * Queue a rebuild of the index, covering all records which have been queued for appending so far
+   */
+  private void queueRebuild() {
+    int covered = records;
+    rebuildQueued = true;
+    writer.execute(() -> rebuild(covered));
+  }
+
+  /**
+   * Append an encoded record to the log, which is synced once no more writes are queued
+   * @param number Number of the record
+   * @param encoded Encoded record
+   */
+  private void append(int number, ByteBuffer encoded) {
+    FileChannel channel;
+
+    synchronized (this) {
+      channel = log;
+    }
+
+    if (channel == null)
+      return;
+
+    try {
+      long position = (long) number * RECORD_SIZE;
+
+      while (encoded.hasRemaining())
+        channel.write(encoded, position + encoded.position());
+
+      if (writer.getQueue().isEmpty())
+        channel.force(false);
+    } catch (IOException e) {
+      fail("Could not append to the player name store at " + logFile, e);
+    }
+  }
+
+  /**
+   * Rebuild the index from the log into a temporary file, which replaces
+   * the index file once it's complete, then swap it in
+   * @param covered Number of records to index, which have all been appended already
+   */
+  private void rebuild(int covered) {
+    FileChannel channel;
+
+    synchronized (this) {
+      rebuildQueued = false;
+      channel = log;
+
+      // Already covered by the current index
+      if (covered <= indexedRecords)
+        return;
+    }
+
+    if (channel == null)
+      return;
+
+    try {
+      // Never index records which could still be lost
+      channel.force(false);
+
+      Map<String, Record> byName = new HashMap<>();
+      Map<UUID, Record> byId = new HashMap<>();
+      replay(channel, 0, covered, byName, byId);
+
+      // Only names which are still the latest name of their player
+      List<Record> current = new ArrayList<>(byName.size());
+      for (Record record : byName.values()) {
+        if (byId.get(record.id) == record)
+          current.add(record);
+      }
+
+      int newCapacity = capacityFor(current.size());
+      File target = new File(dataFolder, INDEX_FILE_PREFIX + covered + INDEX_FILE_SUFFIX);
+      File temp = new File(dataFolder, target.getName() + ".tmp");
+
+      try (
+        FileChannel out = FileChannel.open(
+          temp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+        )
+      ) {
+        MappedByteBuffer buffer = out.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * SLOT_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, newCapacity);
+        buffer.putInt(12, covered);
+
+        for (Record record : current) {
+          int hash = hash(record.name);
+          int slot = freeSlot(buffer, newCapacity, hash);
+          buffer.putInt(slot, hash);
+          buffer.putInt(slot + 4, record.number + 1);
+        }
+
+        buffer.force();
+      }
+
+      Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+      synchronized (this) {
+        // Closed while rebuilding
+        if (log != channel)
+          return;
+
+        if (!mapIndex(target)) {
+          plugin.getLogger().warning("The rebuilt player name index at " + target + " is not intact, keeping records in memory");
+          return;
+        }
+
+        deleteStaleIndices();
+        pendingByName.values().removeIf(record -> record.number < indexedRecords);
+        pendingById.values().removeIf(record -> record.number < indexedRecords);
+      }
+    }
+
+    // Closed while rebuilding, the index will be rebuilt on the next start
+    catch (ClosedChannelException ignored) {}
+
+    catch (IOException e) {
+      plugin.getLogger().log(Level.WARNING, "Could not rebuild the player name index in " + dataFolder + ", keeping records in memory", e);
+    }
+  }
+
+  /**
+   * Log a failure of the log and close the store, after which nothing is stored anymore
+   */
+  private synchronized void fail(String message, IOException e) {
+    if (log == null)
+      return;
+
+    plugin.getLogger().log(Level.WARNING, message + ", falling back to scanning", e);
+    close();
+  }
+
+  /**
+   * Close the log and drop the index, after which nothing is stored anymore
+   */
+  private void close() {
+    closed = true;
+    unmapIndex();
+    pendingByName.clear();
+    pendingById.clear();
+
+    if (log == null)
+      return;
+
+    try {
+      log.close();
+    } catch (IOException ignored) {}
+
+    log = null;
+  }
+
+  /**
+   * Look up the record of a name, which has to still be the latest name of it's player
+   * @param name Name to search for
+   * @return Record of the name, null if there's none
+   */
+  private @Nullable Record lookup(String name) {
+    Record record = pendingByName.get(name.toLowerCase(Locale.ROOT));
+
+    if (record == null)
+      record = probe(name);
+
+    if (record == null)
+      return null;
+
+    // The player moved on to another name since
+    Record latest = pendingById.get(record.id);
+    return latest == null || latest.number == record.number ? record : null;
+  }
+
+  /**
+   * Find the indexed record of a name
+   * @param name Name to search for
+   * @return Record of the name, null if it's not indexed
+   */
+  private @Nullable Record probe(String name) {
+    if (index == null || indexedLog == null)
+      return null;
+
+    int hash = hash(name);
+    int mask = capacity - 1;
+
+    for (int i = hash & mask;; i = (i + 1) & mask) {
+      int slot = HEADER_SIZE + i * SLOT_SIZE;
+      int number = index.getInt(slot + 4) - 1;
+
+      if (number < 0)
+        return null;
+
+      if (index.getInt(slot) != hash)
+        continue;
+
+      Record record = readRecord(indexedLog, number);
+      if (record != null && record.name.equalsIgnoreCase(name))
+        return record;
+    }
+  }
+
+  /**
+   * Read a range of records into memory and decode them in order, where later
+   * records replace earlier ones of the same name or of the same UUID
+   * @param channel Channel of the log
+   * @param from Number of the first record
+   * @param to Number of the record after the last record
+   * @param byName Records by lowercased name to add to
+   * @param byId Records by UUID to add to
+   */
+  private static void replay(FileChannel channel, int from, int to, Map<String, Record> byName, Map<UUID, Record> byId) throws IOException {
+    for (int batch = from; batch < to; batch += REPLAY_BATCH) {
+      int count = Math.min(REPLAY_BATCH, to - batch);
+      ByteBuffer buffer = read(channel, batch, count);
+
+      for (int i = 0; i < count; i++) {
+        Record record = readRecord(buffer, i * RECORD_SIZE, batch + i);
+        if (record != null)
+          remember(record, byName, byId);
+      }
+    }
+  }
+
+  /**
+   * Read a range of records of the log into memory
+   * @param channel Channel of the log
+   * @param from Number of the first record
+   * @param count Number of records
+   */
+  private static ByteBuffer read(FileChannel channel, int from, int count) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(count * RECORD_SIZE);
+    long position = (long) from * RECORD_SIZE;
+
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0)
+        throw new IOException("Unexpected end of the player name log");
+    }
+
+    return buffer;
+  }
+
+  /**
+   * Remember a record as the latest one of it's name and of it's UUID
+   */
+  private static void remember(Record record, Map<String, Record> byName, Map<UUID, Record> byId) {
+    byName.put(record.lowerName(), record);
+    byId.put(record.id, record);
+  }
+
+  /**
+   * Find the first free slot for a hash, where there always is one due to the load factor
+   * @param buf Buffer to search in
+   * @param capacity Capacity of the buffer
+   * @param hash Hash to search for
+   * @return Slot's offset
+   */
+  private static int freeSlot(MappedByteBuffer buf, int capacity, int hash) {
+    int mask = capacity - 1;
+
+    for (int i = hash & mask;; i = (i + 1) & mask) {
+      int slot = HEADER_SIZE + i * SLOT_SIZE;
+      if (buf.getInt(slot + 4) == 0)
+        return slot;
+    }
+  }
+
+  /**
+   * Encode a record, ending with a checksum of all preceding bytes
+   */
+  private static ByteBuffer encode(Record record) {
+    ByteBuffer buf = ByteBuffer.allocate(RECORD_SIZE);
+
+    buf.putLong(0, record.id.getMostSignificantBits());
+    buf.putLong(8, record.id.getLeastSignificantBits());
+    buf.put(OFFSET_LENGTH, (byte) record.name.length());
+
+    for (int i = 0; i < record.name.length(); i++)
+      buf.put(OFFSET_NAME + i, (byte) record.name.charAt(i));
+
+    buf.putInt(OFFSET_CHECKSUM, checksum(buf, 0));
+    return buf;
+  }
+
+  private static @Nullable Record readRecord(ByteBuffer buf, int number) {
+    return readRecord(buf, number * RECORD_SIZE, number);
+  }
+
+  /**
+   * Decode a record
+   * @param buf Buffer to decode from
+   * @param offset Offset of the record within the buffer
+   * @param number Number of the record within the log
+   * @return Decoded record, null if it's torn or broken
+   */
+  private static @Nullable Record readRecord(ByteBuffer buf, int offset, int number) {
+    if (buf.getInt(offset + OFFSET_CHECKSUM) != checksum(buf, offset))
+      return null;
+
+    int length = buf.get(offset + OFFSET_LENGTH);
+    if (length <= 0 || length > MAX_NAME_LENGTH)
+      return null;
+
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++)
+      chars[i] = (char) buf.get(offset + OFFSET_NAME + i);
+
+    UUID id = new UUID(buf.getLong(offset), buf.getLong(offset + 8));
+    return new Record(number, new String(chars), id);
+  }
+
+  /**
+   * Compute the checksum of a record's bytes which precede it's checksum
+   */
+  private static int checksum(ByteBuffer buf, int offset) {
+    ByteBuffer view = buf.duplicate();
+    view.limit(offset + OFFSET_CHECKSUM).position(offset);
+
+    CRC32 crc = new CRC32();
+    crc.update(view);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Hash a name while ignoring casing
+   */
+  private static int hash(String name) {
+    int h = 0;
+    for (int i = 0; i < name.length(); i++)
+      h = 31 * h + lower(name.charAt(i));
+
+    // Spread the bits, as only the lower ones are used for indexing
+    h ^= (h >>> 16);
+    h *= 0x85EBCA6B;
+    h ^= (h >>> 13);
+
+    return h;
+  }
+
+  private static char lower(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  /**
+   * Get the number of records an index file covers by it's name
+   * @param fileName Name of the file
+   * @return Number of covered records, negative if it's not an index file
+   */
+  private static int indexGeneration(String fileName) {
+    if (fileName.length() <= INDEX_FILE_PREFIX.length() + INDEX_FILE_SUFFIX.length())
+      return -1;
+
+    if (!fileName.startsWith(INDEX_FILE_PREFIX) || !fileName.endsWith(INDEX_FILE_SUFFIX))
+      return -1;
+
+    String generation = fileName.substring(INDEX_FILE_PREFIX.length(), fileName.length() - INDEX_FILE_SUFFIX.length());
+
+    if (generation.length() > 9)
+      return -1;
+
+    for (int i = 0; i < generation.length(); i++) {
+      if (generation.charAt(i) < '0' || generation.charAt(i) > '9')
+        return -1;
+    }
+
+    return Integer.parseInt(generation);
+  }
+
+  /**
+   * Get the capacity which holds a number of names below the load factor
+   * @param names Number of names
+   */
+  private static int capacityFor(int names) {
+    int capacity = MIN_CAPACITY;
+    while (names * 3L > capacity * 2L)
+      capacity <<= 1;
+    return capacity;
+  }
+
+  /**
+   * A single record of the log
+   */
+  private static class Record {
+
+    private final int number;
+    private final String name;
+    private final UUID id;
+
+    public Record(int number, String name, UUID id) {
+      this.number = number;
+      this.name = name;
+      this.id = id;
+    }
+
+    public String lowerName() {
+      return name.toLowerCase(Locale.ROOT);
+    }
+  }
+}
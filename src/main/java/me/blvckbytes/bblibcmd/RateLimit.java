@@ -0,0 +1,56 @@
+package me.blvckbytes.bblibcmd;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Describes a token bucket, which holds up to a burst of tokens and refills
+  at a constant rate. Buckets are kept per player and per limit instance, so
+  commands which share a limit instance also share the players' budgets.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class RateLimit {
+
+  // Maximum number of calls which may happen at once
+  private final int burst;
+
+  // Number of calls which are refilled per second
+  private final double perSecond;
+
+  // Time it takes to refill a single token
+  private final long emissionNanos;
+
+  // Time a bucket may be ahead of the current time before it's empty
+  private final long toleranceNanos;
+
+  /**
+   * @param burst Maximum number of calls which may happen at once
+   * @param perSecond Number of calls which are refilled per second
+   */
+  public RateLimit(int burst, double perSecond) {
+    if (burst < 1 || !(perSecond > 0))
+      throw new IllegalArgumentException("The burst and the rate have to be positive");
+
+    this.burst = burst;
+    this.perSecond = perSecond;
+    this.emissionNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+    this.toleranceNanos = emissionNanos * (burst - 1);
+  }
+}
@@ -0,0 +1,139 @@
+package me.blvckbytes.bblibcmd;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Lock-free token buckets per player and rate limit. Each bucket is a single
+  atomic timestamp, which tracks when the bucket will be full again, so
+  acquiring a token is one compare-and-set without any refill bookkeeping.
+  Buckets of players are dropped when they leave.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class RateLimiter implements Listener {
+
+  private static RateLimiter instance;
+
+  // Plugin this limiter is bound to, until it disables
+  private final JavaPlugin plugin;
+
+  // Buckets per player, mapping limits to the time their bucket is full again
+  private final Map<UUID, Map<RateLimit, AtomicLong>> buckets;
+
+  private final LongAdder rejections;
+
+  private RateLimiter(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.buckets = new ConcurrentHashMap<>();
+    this.rejections = new LongAdder();
+  }
+
+  /**
+   * Get the shared limiter instance, which is created and
+   * registered on the first call, and again once the plugin it's
+   * bound to has been disabled
+   * @param plugin Plugin to register the cleanup listener with
+   */
+  public static synchronized RateLimiter getInstance(JavaPlugin plugin) {
+    if (instance == null) {
+      instance = new RateLimiter(plugin);
+      Bukkit.getPluginManager().registerEvents(instance, plugin);
+    }
+    return instance;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Try to take a token from a player's bucket
+   * @param player Target player's UUID
+   * @param limit Limit to take the token from
+   * @return True if a token has been taken, false if the bucket is empty
+   */
+  public boolean tryAcquire(UUID player, RateLimit limit) {
+    AtomicLong fullAt = buckets
+      .computeIfAbsent(player, k -> new ConcurrentHashMap<>())
+      .computeIfAbsent(limit, k -> new AtomicLong(Long.MIN_VALUE));
+
+    long now = System.nanoTime();
+
+    while (true) {
+      long current = fullAt.get();
+
+      // Buckets never hold more than their burst
+      long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+
+      if (base - now > limit.getToleranceNanos()) {
+        rejections.increment();
+        return false;
+      }
+
+      if (fullAt.compareAndSet(current, base + limit.getEmissionNanos()))
+        return true;
+    }
+  }
+
+  /**
+   * Forget about all buckets of a player
+   * @param player Target player's UUID
+   */
+  public void reset(UUID player) {
+    buckets.remove(player);
+  }
+
+  /**
+   * Get the total number of calls which have been rejected
+   */
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler
+  public void onDisable(PluginDisableEvent e) {
+    if (e.getPlugin() != plugin)
+      return;
+
+    // Bukkit drops this listener, so the next caller has to bind a new limiter
+    synchronized (RateLimiter.class) {
+      if (instance == this)
+        instance = null;
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(PlayerQuitEvent e) {
+    reset(e.getPlayer().getUniqueId());
+  }
+}
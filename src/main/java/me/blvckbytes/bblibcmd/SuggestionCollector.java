@@ -0,0 +1,243 @@
+package me.blvckbytes.bblibcmd;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Collects the most relevant suggestions for a typed out query within a
+  bounded heap. Suggestions are ranked by their rank first and by the order
+  they have been added in second, so later suggestions never displace
+  earlier ones of the same rank.
+
+  Sources should stop adding suggestions as soon as the collector is full
+  for the best rank they could still produce, which makes expensive
+  sources cost only as much as is needed to fill the visible results.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class SuggestionCollector {
+
+  private static final Comparator<Entry> BEST_FIRST = Comparator
+    .<Entry>comparingInt(e -> e.rank.ordinal())
+    .thenComparingLong(e -> e.sequence);
+
+  private final SuggestionMatcher matcher;
+  private final int limit;
+
+  // Worst entry is at the head, so it can be evicted in constant time
+  private final PriorityQueue<Entry> heap;
+
+  // Number of entries held per rank
+  private final int[] rankCounts;
+
+  private long sequence;
+  private volatile boolean cancelled;
+  private volatile boolean playerDependent;
+
+  /**
+   * Create a new collector for a typed out query
+   * @param query Query to rank suggestions by
+   * @param limit Maximum number of suggestions to keep
+   */
+  public SuggestionCollector(String query, int limit) {
+    this.matcher = new SuggestionMatcher(query);
+    this.limit = limit;
+    this.heap = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+    this.rankCounts = new int[SuggestionRank.values().length];
+  }
+
+  /**
+   * Add a suggestion, which is ranked against the query
+   * @param suggestion Suggestion to add
+   * @return False if suggestions of the same or a worse rank will not be accepted anymore
+   */
+  public boolean add(String suggestion) {
+    return add(suggestion, rank(suggestion));
+  }
+
+  /**
+   * Add a suggestion with a known rank. Sources which yield their suggestions
+   * best rank first may stop as soon as this returns false, as nothing they
+   * could still produce would make it into the result.
+   * @param suggestion Suggestion to add
+   * @param rank Rank of the suggestion
+   * @return False if suggestions of the same or a worse rank will not be accepted anymore
+   */
+  public synchronized boolean add(String suggestion, SuggestionRank rank) {
+    if (cancelled)
+      return false;
+
+    Entry entry = new Entry(suggestion, rank, sequence++);
+
+    if (heap.size() < limit) {
+      heap.add(entry);
+      rankCounts[rank.ordinal()]++;
+    }
+
+    // Only displace the worst entry if the new one is better
+    else if (limit > 0 && BEST_FIRST.compare(entry, heap.peek()) < 0) {
+      Entry evicted = heap.poll();
+      rankCounts[evicted.rank.ordinal()]--;
+      heap.add(entry);
+      rankCounts[rank.ordinal()]++;
+    }
+
+    return !isFull(rank);
+  }
+
+  /**
+   * Add all suggestions of a stream, until the collector is cancelled. As the
+   * stream's order is unknown, a better suggestion may always follow, so the
+   * stream has to be limited by the caller.
+   * @param suggestions Suggestions to add
+   */
+  public void addAll(Stream<String> suggestions) {
+    Iterator<String> it = suggestions.iterator();
+    while (it.hasNext() && !cancelled)
+      add(it.next());
+  }
+
+  /**
+   * Rank a suggestion against the query
+   * @param suggestion Suggestion to rank
+   */
+  public SuggestionRank rank(String suggestion) {
+    if (matcher.isExact(suggestion))
+      return SuggestionRank.EXACT;
+
+    if (matcher.startsWith(suggestion))
+      return SuggestionRank.PREFIX;
+
+    if (matcher.contains(suggestion))
+      return SuggestionRank.SUBSTRING;
+
+    return SuggestionRank.OTHER;
+  }
+
+  /**
+   * Check whether the collector holds as many suggestions of the
+   * provided or a better rank as it's limit, in which case adding
+   * suggestions of that rank has no effect anymore
+   * @param rank Rank to check
+   */
+  public synchronized boolean isFull(SuggestionRank rank) {
+    if (cancelled)
+      return true;
+
+    return count(rank) >= limit;
+  }
+
+  /**
+   * Stop accepting any further suggestions
+   */
+  public void cancel() {
+    this.cancelled = true;
+  }
+
+  /**
+   * Check whether the collector stopped accepting suggestions early
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Mark the suggestions as depending on the names of players, which
+   * change whenever a player joins or quits
+   */
+  public void markPlayerDependent() {
+    this.playerDependent = true;
+  }
+
+  /**
+   * Check whether any source marked the suggestions as depending on player names
+   */
+  public boolean isPlayerDependent() {
+    return playerDependent;
+  }
+
+  /**
+   * Get the number of collected suggestions of the provided or a better rank
+   * @param rank Worst rank to count
+   */
+  public synchronized int count(SuggestionRank rank) {
+    int count = 0;
+    for (int i = 0; i <= rank.ordinal(); i++)
+      count += rankCounts[i];
+    return count;
+  }
+
+  /**
+   * Get the collected suggestions of the provided or a better rank, best first
+   * @param rank Worst rank to include
+   */
+  public synchronized List<String> toList(SuggestionRank rank) {
+    return heap.stream()
+      .filter(e -> e.rank.ordinal() <= rank.ordinal())
+      .sorted(BEST_FIRST)
+      .map(e -> e.value)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Get the maximum number of suggestions to keep
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Get the number of collected suggestions
+   */
+  public synchronized int size() {
+    return heap.size();
+  }
+
+  /**
+   * Get the matcher of the query
+   */
+  public SuggestionMatcher getMatcher() {
+    return matcher;
+  }
+
+  /**
+   * Get the collected suggestions, best first
+   */
+  public synchronized List<String> toList() {
+    return heap.stream()
+      .sorted(BEST_FIRST)
+      .map(e -> e.value)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * A single collected suggestion
+   */
+  private static class Entry {
+
+    private final String value;
+    private final SuggestionRank rank;
+    private final long sequence;
+
+    public Entry(String value, SuggestionRank rank, long sequence) {
+      this.value = value;
+      this.rank = rank;
+      this.sequence = sequence;
+    }
+  }
+}
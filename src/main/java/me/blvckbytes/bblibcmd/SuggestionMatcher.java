@@ -0,0 +1,93 @@
+package me.blvckbytes.bblibcmd;
+
+import java.util.Locale;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Matches suggestion candidates against a typed out query while ignoring
+  casing. The query is prepared once and candidates are compared in place
+  by region matching, so filtering doesn't allocate anything per candidate.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class SuggestionMatcher {
+
+  private final String query;
+  private final String lowerQuery;
+
+  /**
+   * Create a new matcher for a typed out query
+   * @param query Query to match against, casing will be ignored
+   */
+  public SuggestionMatcher(String query) {
+    this.query = query;
+    this.lowerQuery = query.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Check whether the candidate contains the query
+   * @param candidate Candidate to check
+   */
+  public boolean contains(String candidate) {
+    int len = query.length();
+    int last = candidate.length() - len;
+
+    for (int i = 0; i <= last; i++) {
+      if (candidate.regionMatches(true, i, query, 0, len))
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Check whether the candidate starts with the query
+   * @param candidate Candidate to check
+   */
+  public boolean startsWith(String candidate) {
+    return candidate.regionMatches(true, 0, query, 0, query.length());
+  }
+
+  /**
+   * Check whether the candidate equals the query
+   * @param candidate Candidate to check
+   */
+  public boolean isExact(String candidate) {
+    return candidate.equalsIgnoreCase(query);
+  }
+
+  /**
+   * Check whether a precomputed, lowercased key contains the query
+   * @param lowerCandidate Lowercased candidate to check
+   */
+  public boolean containsLower(String lowerCandidate) {
+    return lowerCandidate.contains(lowerQuery);
+  }
+
+  /**
+   * Get the query as it has been typed out
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * Get the lowercased query, computed once
+   */
+  public String getLowerQuery() {
+    return lowerQuery;
+  }
+}
@@ -0,0 +1,40 @@
+package me.blvckbytes.bblibcmd;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Describes how well a suggestion matches the typed out text,
+  where constants are ordered from best to worst relevance.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public enum SuggestionRank {
+
+  // The suggestion equals the typed out text
+  EXACT,
+
+  // The suggestion starts with the typed out text
+  PREFIX,
+
+  // The suggestion contains the typed out text
+  SUBSTRING,
+
+  // The suggestion is within a small edit distance of the typed out text
+  FUZZY,
+
+  // The suggestion doesn't contain the typed out text
+  OTHER
+
+}
@@ -0,0 +1,49 @@
+package me.blvckbytes.bblibcmd.exception;
+
+import me.blvckbytes.bblibutil.component.IComponent;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Multiple arguments of a command could not be parsed at once.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ArgumentErrorsException extends CommandException {
+
+  private final List<CommandException> errors;
+
+  public ArgumentErrorsException(List<CommandException> errors) {
+    super(errors.get(0).getGetComponent());
+    this.errors = List.copyOf(errors);
+  }
+
+  @Override
+  public List<IComponent> getComponents() {
+    return errors.stream()
+      .flatMap(error -> error.getComponents().stream())
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Get all errors, in the order of the arguments they occurred at
+   */
+  public List<CommandException> getErrors() {
+    return errors;
+  }
+}
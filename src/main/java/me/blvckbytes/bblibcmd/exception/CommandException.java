@@ -1,8 +1,13 @@
 package me.blvckbytes.bblibcmd.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import me.blvckbytes.bblibcmd.CommandHandlerSection;
+import me.blvckbytes.bblibutil.component.GradientGenerator;
 import me.blvckbytes.bblibutil.component.IComponent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -24,10 +29,108 @@ import me.blvckbytes.bblibutil.component.IComponent;
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 @Getter
-@AllArgsConstructor
 public class CommandException extends RuntimeException {
 
+  // Shared instances of input-independent errors per section, by type and key
+  private static final Map<CommandHandlerSection, Map<Map.Entry<Class<?>, String>, Shared>> sharedInstances = Collections.synchronizedMap(new WeakHashMap<>());
+
   @Getter
   private final IComponent getComponent;
 
+  // Hint on how to resolve this error, sent after the error itself
+  private final @Nullable IComponent hint;
+
+  // Whether this is a shared instance, whose components recur byte-for-byte
+  private boolean shared;
+
+  public CommandException(IComponent getComponent) {
+    this(getComponent, null);
+  }
+
+  public CommandException(IComponent getComponent, @Nullable IComponent hint) {
+    // These are thrown as control flow on bad user input and never
+    // logged, so don't waste time capturing stack traces or suppressions
+    super(null, null, false, false);
+    this.getComponent = getComponent;
+    this.hint = hint;
+  }
+
+  /**
+   * Build a hint which suggests a correction of the input
+   * @param sect Section to get the message from
+   * @param suggestion Suggested correction, may be null if there is none
+   * @param gradientGenerator Gradient generator ref
+   * @return Hint, null if there's no suggestion or the message hasn't been configured
+   */
+  protected static @Nullable IComponent didYouMean(CommandHandlerSection sect, @Nullable String suggestion, @Nullable GradientGenerator gradientGenerator) {
+    if (suggestion == null || sect.getDidYouMean() == null)
+      return null;
+
+    return sect.getDidYouMean()
+      .withPrefix()
+      .withVariable("suggestion", suggestion)
+      .asComponent(gradientGenerator);
+  }
+
+  /**
+   * Get the shared instance of an input-independent error, which is created on demand
+   * and created again if the gradient generator changed
+   * @param type Type of the error
+   * @param sect Section the error's message is taken from
+   * @param key Key of the instance within it's type and section, null if there's only one
+   * @param gradientGenerator Gradient generator ref
+   * @param factory Creates a new instance
+   * @return Shared instance, which may be thrown repeatedly
+   */
+  static <T extends CommandException> T shared(
+    Class<T> type,
+    CommandHandlerSection sect,
+    @Nullable String key,
+    @Nullable GradientGenerator gradientGenerator,
+    Supplier<T> factory
+  ) {
+    synchronized (sharedInstances) {
+      Map<Map.Entry<Class<?>, String>, Shared> bySect = sharedInstances.computeIfAbsent(sect, k -> new HashMap<>());
+      Map.Entry<Class<?>, String> entryKey = new AbstractMap.SimpleImmutableEntry<>(type, key);
+      Shared shared = bySect.get(entryKey);
+
+      if (shared == null || shared.gradientGenerator != gradientGenerator) {
+        T instance = factory.get();
+        instance.shared = true;
+        shared = new Shared(instance, gradientGenerator);
+        bySect.put(entryKey, shared);
+      }
+
+      return type.cast(shared.instance);
+    }
+  }
+
+  /**
+   * Whether this is a shared instance of an input-independent error,
+   * whose components are sent byte-for-byte the same every time
+   */
+  public boolean isShared() {
+    return shared;
+  }
+
+  /**
+   * Get all components which should be sent to the command sender, in order
+   */
+  public List<IComponent> getComponents() {
+    return hint == null ? List.of(getComponent) : List.of(getComponent, hint);
+  }
+
+  /**
+   * A shared instance and the gradient generator it has been built with
+   */
+  private static class Shared {
+
+    private final CommandException instance;
+    private final @Nullable GradientGenerator gradientGenerator;
+
+    public Shared(CommandException instance, @Nullable GradientGenerator gradientGenerator) {
+      this.instance = instance;
+      this.gradientGenerator = gradientGenerator;
+    }
+  }
 }
@@ -32,4 +32,14 @@ public class InternalErrorException extends CommandException {
         .asComponent(gradientGenerator)
     );
   }
+
+  /**
+   * Get the shared instance for a section, which is created on demand
+   * @param sect Section to get the message from
+   * @param gradientGenerator Gradient generator ref
+   * @return Shared instance, which may be thrown repeatedly
+   */
+  public static InternalErrorException of(CommandHandlerSection sect, @Nullable GradientGenerator gradientGenerator) {
+    return shared(InternalErrorException.class, sect, null, gradientGenerator, () -> new InternalErrorException(sect, gradientGenerator));
+  }
 }
@@ -29,17 +29,27 @@ import java.util.stream.Collectors;
 public class InvalidEnumException extends CommandException {
 
   public InvalidEnumException(CommandHandlerSection sect, String input, Enum<?>[] options, @Nullable GradientGenerator gradientGenerator) {
+    this(
+      sect, input,
+      Arrays.stream(options)
+        .map(Enum::name)
+        .collect(Collectors.joining(", ")),
+      gradientGenerator
+    );
+  }
+
+  public InvalidEnumException(CommandHandlerSection sect, String input, String options, @Nullable GradientGenerator gradientGenerator) {
+    this(sect, input, options, null, gradientGenerator);
+  }
+
+  public InvalidEnumException(CommandHandlerSection sect, String input, String options, @Nullable String suggestion, @Nullable GradientGenerator gradientGenerator) {
     super(
       sect.getInvalidEnum()
         .withPrefix()
         .withVariable("input", input)
-        .withVariable(
-          "options",
-          Arrays.stream(options)
-            .map(Enum::name)
-            .collect(Collectors.joining(", "))
-        )
-        .asComponent(gradientGenerator)
+        .withVariable("options", options)
+        .asComponent(gradientGenerator),
+      didYouMean(sect, suggestion, gradientGenerator)
     );
   }
 }
@@ -33,4 +33,15 @@ public class MissingPermissionException extends CommandException {
         .asComponent(gradientGenerator)
     );
   }
+
+  /**
+   * Get the shared instance for a section and a permission, which is created on demand
+   * @param sect Section to get the message from
+   * @param permission Missing permission
+   * @param gradientGenerator Gradient generator ref
+   * @return Shared instance, which may be thrown repeatedly
+   */
+  public static MissingPermissionException of(CommandHandlerSection sect, String permission, @Nullable GradientGenerator gradientGenerator) {
+    return shared(MissingPermissionException.class, sect, permission, gradientGenerator, () -> new MissingPermissionException(sect, permission, gradientGenerator));
+  }
 }
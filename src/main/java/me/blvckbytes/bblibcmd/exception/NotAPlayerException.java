@@ -32,4 +32,14 @@ public class NotAPlayerException extends CommandException {
         .asComponent(gradientGenerator)
     );
   }
+
+  /**
+   * Get the shared instance for a section, which is created on demand
+   * @param sect Section to get the message from
+   * @param gradientGenerator Gradient generator ref
+   * @return Shared instance, which may be thrown repeatedly
+   */
+  public static NotAPlayerException of(CommandHandlerSection sect, @Nullable GradientGenerator gradientGenerator) {
+    return shared(NotAPlayerException.class, sect, null, gradientGenerator, () -> new NotAPlayerException(sect, gradientGenerator));
+  }
 }
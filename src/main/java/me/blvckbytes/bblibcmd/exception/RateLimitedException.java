@@ -0,0 +1,45 @@
+package me.blvckbytes.bblibcmd.exception;
+
+import me.blvckbytes.bblibcmd.CommandHandlerSection;
+import me.blvckbytes.bblibutil.component.GradientGenerator;
+import org.jetbrains.annotations.Nullable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  The sender exceeded the rate limit of a command.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class RateLimitedException extends CommandException {
+
+  public RateLimitedException(CommandHandlerSection sect, @Nullable GradientGenerator gradientGenerator) {
+    super(
+      sect.getRateLimited()
+        .withPrefix()
+        .asComponent(gradientGenerator)
+    );
+  }
+
+  /**
+   * Get the shared instance for a section, which is created on demand
+   * @param sect Section to get the message from
+   * @param gradientGenerator Gradient generator ref
+   * @return Shared instance, which may be thrown repeatedly
+   */
+  public static RateLimitedException of(CommandHandlerSection sect, @Nullable GradientGenerator gradientGenerator) {
+    return shared(RateLimitedException.class, sect, null, gradientGenerator, () -> new RateLimitedException(sect, gradientGenerator));
+  }
+}
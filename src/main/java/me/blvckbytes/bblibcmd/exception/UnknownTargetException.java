@@ -26,11 +26,16 @@ import org.jetbrains.annotations.Nullable;
 public class UnknownTargetException extends CommandException {
 
   public UnknownTargetException(CommandHandlerSection sect, String name, @Nullable GradientGenerator gradientGenerator) {
+    this(sect, name, null, gradientGenerator);
+  }
+
+  public UnknownTargetException(CommandHandlerSection sect, String name, @Nullable String suggestion, @Nullable GradientGenerator gradientGenerator) {
     super(
       sect.getUnknownTarget()
         .withPrefix()
         .withVariable("name", name)
-        .asComponent(gradientGenerator)
+        .asComponent(gradientGenerator),
+      didYouMean(sect, suggestion, gradientGenerator)
     );
   }
 }
@@ -0,0 +1,39 @@
+package me.blvckbytes.bblibcmd;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Creates the executor of asynchronous command invocations, where each
+  invocation runs on it's own virtual thread, so blocking I/O within
+  commands doesn't tie up any platform threads.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class CommandExecutorFactory {
+
+  /**
+   * Create a new executor, which runs every task right away
+   */
+  static ExecutorService create() {
+    return Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual()
+        .name("bblibcmd-exec-", 0)
+        .factory()
+    );
+  }
+}